@@ -65,10 +65,13 @@ public class SecurityConfig {
                         // Public endpoints
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/categories/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/locations").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/orders").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/orders/feed").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/orders/{id}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/executors").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/executors/{id}").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/executors/{id}/page").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/executors/{id}/reviews").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/executors/{id}/portfolio").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/subscription/announcement").permitAll()
@@ -5,13 +5,14 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import kg.freelance.dto.request.ChatMessageRequest;
+import kg.freelance.dto.request.SliceRequest;
 import kg.freelance.dto.response.ChatRoomResponse;
+import kg.freelance.dto.response.CursorPageResponse;
 import kg.freelance.dto.response.MessageResponse;
 import kg.freelance.dto.response.PageResponse;
 import kg.freelance.security.UserPrincipal;
 import kg.freelance.service.ChatService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -32,9 +33,10 @@ public class ChatController {
     public ResponseEntity<PageResponse<ChatRoomResponse>> getMyChatRooms(
             @AuthenticationPrincipal UserPrincipal user,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = SliceRequest.of(page, size, withTotal);
         PageResponse<ChatRoomResponse> response = chatService.getMyChatRooms(user.getId(), pageable);
         return ResponseEntity.ok(response);
     }
@@ -76,13 +78,29 @@ public class ChatController {
             @AuthenticationPrincipal UserPrincipal user,
             @PathVariable Long id,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "50") int size) {
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = SliceRequest.of(page, size, withTotal);
         PageResponse<MessageResponse> response = chatService.getChatMessages(id, user.getId(), pageable);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{id}/messages/history")
+    @Operation(summary = "Get message history",
+            description = "Cursor-paginated messages: older than 'before' (newest first) or newer than 'after' (oldest first), no total count. "
+                    + "With 'after' the newest few seconds are held back until settled, resume from 'nextCursor'")
+    public ResponseEntity<CursorPageResponse<MessageResponse>> getMessageHistory(
+            @AuthenticationPrincipal UserPrincipal user,
+            @PathVariable Long id,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        CursorPageResponse<MessageResponse> response = chatService.getMessageHistory(id, user.getId(), before, after, limit);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/{id}/messages")
     @Operation(summary = "Send message (REST)", description = "Send a message via REST (fallback for WebSocket)")
     public ResponseEntity<MessageResponse> sendMessage(
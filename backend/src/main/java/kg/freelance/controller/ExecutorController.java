@@ -5,13 +5,16 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import kg.freelance.dto.request.ExecutorProfileRequest;
+import kg.freelance.dto.request.SliceRequest;
 import kg.freelance.dto.response.*;
 import kg.freelance.security.UserPrincipal;
+import kg.freelance.service.ExecutorPageCache;
 import kg.freelance.service.ExecutorService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -35,14 +38,15 @@ public class ExecutorController {
             @RequestParam(required = false) BigDecimal minRating,
             @RequestParam(required = false) Boolean availableOnly,
             @RequestParam(required = false) String search,
-            @RequestParam(defaultValue = "rating") String sort,
+            @RequestParam(defaultValue = "rank") String sort,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
         Sort sorting = switch (sort) {
             case "orders" -> Sort.by(Sort.Direction.DESC, "completedOrders");
             case "newest" -> Sort.by(Sort.Direction.DESC, "user.createdAt");
-            default -> Sort.by(Sort.Direction.DESC, "rating");
+            case "rating" -> Sort.by(Sort.Direction.DESC, "rating");
+            default -> Sort.by(Sort.Direction.DESC, ExecutorService.SORT_RANK);
         };
 
         Pageable pageable = PageRequest.of(page, size, sorting);
@@ -59,6 +63,18 @@ public class ExecutorController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{id}/page")
+    @Operation(summary = "Get executor page",
+            description = "Profile, first page of reviews and portfolio in one response, supports If-None-Match")
+    public ResponseEntity<ExecutorPageResponse> getExecutorPage(@PathVariable Long id) {
+        ExecutorPageCache.ExecutorPage page = executorService.getExecutorPage(id);
+        // With a matching If-None-Match Spring answers 304 and skips the body
+        return ResponseEntity.ok()
+                .eTag(page.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(page.page());
+    }
+
     @PostMapping("/me/profile")
     @Operation(summary = "Create executor profile", description = "Create or update your executor profile")
     @SecurityRequirement(name = "bearerAuth")
@@ -108,9 +124,10 @@ public class ExecutorController {
     public ResponseEntity<PageResponse<ReviewResponse>> getExecutorReviews(
             @PathVariable Long id,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = SliceRequest.of(page, size, withTotal);
         PageResponse<ReviewResponse> response = executorService.getExecutorReviews(id, pageable);
         return ResponseEntity.ok(response);
     }
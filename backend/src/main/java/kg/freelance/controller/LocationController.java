@@ -0,0 +1,28 @@
+package kg.freelance.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kg.freelance.dto.response.LocationResponse;
+import kg.freelance.service.LocationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/locations")
+@RequiredArgsConstructor
+@Tag(name = "Locations", description = "City dictionary for orders")
+public class LocationController {
+
+    private final LocationService locationService;
+
+    @GetMapping
+    @Operation(summary = "Get locations", description = "Get active cities that orders can be linked to")
+    public ResponseEntity<List<LocationResponse>> getLocations() {
+        return ResponseEntity.ok(locationService.getActiveLocations());
+    }
+}
@@ -3,13 +3,13 @@ package kg.freelance.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kg.freelance.dto.request.SliceRequest;
 import kg.freelance.dto.response.NotificationResponse;
 import kg.freelance.dto.response.PageResponse;
 import kg.freelance.dto.response.UnreadCountResponse;
 import kg.freelance.security.UserPrincipal;
 import kg.freelance.service.InAppNotificationService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -29,9 +29,10 @@ public class NotificationController {
     public ResponseEntity<PageResponse<NotificationResponse>> getNotifications(
             @AuthenticationPrincipal UserPrincipal user,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
-        Pageable pageable = PageRequest.of(page, Math.min(size, 50));
+        Pageable pageable = SliceRequest.of(page, Math.min(size, 50), withTotal);
         PageResponse<NotificationResponse> response = inAppNotificationService.getNotifications(user.getId(), pageable);
         return ResponseEntity.ok(response);
     }
@@ -9,7 +9,6 @@ import kg.freelance.dto.response.*;
 import kg.freelance.security.UserPrincipal;
 import kg.freelance.service.OrderService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
@@ -37,20 +36,44 @@ public class OrderController {
             @RequestParam(required = false) BigDecimal budgetMax,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String location,
+            @RequestParam(required = false) Long locationId,
             @RequestParam(defaultValue = "newest") String sort,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
         Sort sorting = switch (sort) {
             case "budget" -> Sort.by(Sort.Direction.DESC, "budget_max");
             case "deadline" -> Sort.by(Sort.Direction.ASC, "deadline");
+            case "relevance" -> Sort.by(Sort.Direction.DESC, OrderService.SORT_RELEVANCE);
             default -> Sort.by(Sort.Direction.DESC, "created_at");
         };
 
         Long userId = user != null ? user.getId() : null;
-        Pageable pageable = PageRequest.of(page, size, sorting);
+        Pageable pageable = SliceRequest.of(page, size, sorting, withTotal);
         PageResponse<OrderListResponse> response = orderService.getPublicOrders(
-                categoryId, budgetMin, budgetMax, search, location, userId, pageable);
+                categoryId, budgetMin, budgetMax, search, location, locationId, userId, pageable);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/feed")
+    @Operation(summary = "Get public orders feed",
+            description = "Cursor-paginated newest-first public orders for infinite scroll (no total count)")
+    public ResponseEntity<CursorPageResponse<OrderListResponse>> getPublicOrdersFeed(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) BigDecimal budgetMin,
+            @RequestParam(required = false) BigDecimal budgetMax,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Long locationId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Long userId = user != null ? user.getId() : null;
+        CursorPageResponse<OrderListResponse> response = orderService.getPublicOrdersFeed(
+                categoryId, budgetMin, budgetMax, search, location, locationId, userId, cursor, size);
 
         return ResponseEntity.ok(response);
     }
@@ -166,9 +189,10 @@ public class OrderController {
     public ResponseEntity<PageResponse<OrderListResponse>> getMyOrdersAsClient(
             @AuthenticationPrincipal UserPrincipal user,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = SliceRequest.of(page, size, withTotal);
         PageResponse<OrderListResponse> response = orderService.getMyOrdersAsClient(user.getId(), pageable);
         return ResponseEntity.ok(response);
     }
@@ -179,9 +203,10 @@ public class OrderController {
     public ResponseEntity<PageResponse<OrderListResponse>> getMyOrdersAsExecutor(
             @AuthenticationPrincipal UserPrincipal user,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = SliceRequest.of(page, size, withTotal);
         PageResponse<OrderListResponse> response = orderService.getMyOrdersAsExecutor(user.getId(), pageable);
         return ResponseEntity.ok(response);
     }
@@ -217,9 +242,10 @@ public class OrderController {
     public ResponseEntity<PageResponse<OrderResponseDto>> getMyResponses(
             @AuthenticationPrincipal UserPrincipal user,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = SliceRequest.of(page, size, withTotal);
         PageResponse<OrderResponseDto> response = orderService.getMyResponses(user.getId(), pageable);
         return ResponseEntity.ok(response);
     }
@@ -5,12 +5,12 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import kg.freelance.dto.request.ReviewRequest;
+import kg.freelance.dto.request.SliceRequest;
 import kg.freelance.dto.response.PageResponse;
 import kg.freelance.dto.response.ReviewResponse;
 import kg.freelance.security.UserPrincipal;
 import kg.freelance.service.ReviewService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -56,9 +56,10 @@ public class ReviewController {
     public ResponseEntity<PageResponse<ReviewResponse>> getExecutorReviews(
             @PathVariable Long executorId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = SliceRequest.of(page, size, withTotal);
         PageResponse<ReviewResponse> response = reviewService.getExecutorReviews(executorId, pageable);
         return ResponseEntity.ok(response);
     }
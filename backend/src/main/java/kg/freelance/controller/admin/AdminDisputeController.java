@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import kg.freelance.dto.request.ResolveDisputeRequest;
+import kg.freelance.dto.request.SliceRequest;
 import kg.freelance.dto.response.DisputeResponse;
 import kg.freelance.dto.response.MessageResponse;
 import kg.freelance.dto.response.PageResponse;
@@ -82,8 +83,9 @@ public class AdminDisputeController {
     public ResponseEntity<PageResponse<MessageResponse>> getDisputeMessages(
             @PathVariable Long id,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "100") int size) {
-        Pageable pageable = PageRequest.of(page, size);
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        Pageable pageable = SliceRequest.of(page, size, withTotal);
         return ResponseEntity.ok(disputeService.getDisputeMessages(id, pageable));
     }
 }
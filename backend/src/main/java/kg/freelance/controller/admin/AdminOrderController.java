@@ -3,6 +3,7 @@ package kg.freelance.controller.admin;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kg.freelance.dto.request.SliceRequest;
 import kg.freelance.dto.response.AdminOrderResponse;
 import kg.freelance.dto.response.PageResponse;
 import kg.freelance.entity.enums.OrderStatus;
@@ -29,9 +30,10 @@ public class AdminOrderController {
             @RequestParam(required = false) OrderStatus status,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = SliceRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"), withTotal);
         PageResponse<AdminOrderResponse> response = adminService.getAllOrders(status, categoryId, pageable);
         return ResponseEntity.ok(response);
     }
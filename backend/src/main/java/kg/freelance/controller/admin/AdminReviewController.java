@@ -3,11 +3,11 @@ package kg.freelance.controller.admin;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kg.freelance.dto.request.SliceRequest;
 import kg.freelance.dto.response.AdminReviewResponse;
 import kg.freelance.dto.response.PageResponse;
 import kg.freelance.service.AdminService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,9 +26,10 @@ public class AdminReviewController {
     public ResponseEntity<PageResponse<AdminReviewResponse>> getAllReviews(
             @RequestParam(required = false) Boolean moderated,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = SliceRequest.of(page, size, withTotal);
         PageResponse<AdminReviewResponse> response = adminService.getAllReviews(moderated, pageable);
         return ResponseEntity.ok(response);
     }
@@ -37,9 +38,10 @@ public class AdminReviewController {
     @Operation(summary = "Get pending reviews", description = "Get reviews pending moderation")
     public ResponseEntity<PageResponse<AdminReviewResponse>> getPendingReviews(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = SliceRequest.of(page, size, withTotal);
         PageResponse<AdminReviewResponse> response = adminService.getPendingReviews(pageable);
         return ResponseEntity.ok(response);
     }
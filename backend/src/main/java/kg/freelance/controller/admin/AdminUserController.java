@@ -3,12 +3,12 @@ package kg.freelance.controller.admin;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kg.freelance.dto.request.SliceRequest;
 import kg.freelance.dto.response.AdminUserResponse;
 import kg.freelance.dto.response.PageResponse;
 import kg.freelance.entity.enums.UserRole;
 import kg.freelance.service.AdminService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
@@ -30,9 +30,10 @@ public class AdminUserController {
             @RequestParam(required = false) Boolean active,
             @RequestParam(required = false) UserRole role,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = SliceRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"), withTotal);
         PageResponse<AdminUserResponse> response = adminService.getAllUsers(search, active, role, pageable);
         return ResponseEntity.ok(response);
     }
@@ -17,4 +17,7 @@ public class ExecutorProfileRequest {
     private Set<Long> categoryIds;
 
     private Boolean availableForWork;
+
+    // Push about new orders in the executor's categories while the app is closed
+    private Boolean notifyNewOrders;
 }
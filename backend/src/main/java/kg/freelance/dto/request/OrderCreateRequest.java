@@ -35,6 +35,9 @@ public class OrderCreateRequest {
     @Size(max = 200, message = "Location must not exceed 200 characters")
     private String location;
 
+    // City from the locations dictionary; free-text location is used when absent
+    private Long locationId;
+
     private Boolean isPublic = true;
 
     private List<String> attachments;
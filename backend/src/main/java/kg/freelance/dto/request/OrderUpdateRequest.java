@@ -27,6 +27,11 @@ public class OrderUpdateRequest {
 
     private LocalDate deadline;
 
+    @Size(max = 200, message = "Location must not exceed 200 characters")
+    private String location;
+
+    private Long locationId;
+
     private Boolean isPublic;
 
     private List<String> attachments;
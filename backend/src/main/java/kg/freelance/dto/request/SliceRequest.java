@@ -0,0 +1,36 @@
+package kg.freelance.dto.request;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Page request for a list endpoint called with {@code withTotal=false}.
+ * {@link kg.freelance.dto.response.PageResponse} sees it and never runs the COUNT query,
+ * returning {@code hasNext} instead of totals.
+ */
+public final class SliceRequest extends PageRequest {
+
+    private SliceRequest(int page, int size, Sort sort) {
+        super(page, size, sort);
+    }
+
+    public static Pageable of(int page, int size, boolean withTotal) {
+        return of(page, size, Sort.unsorted(), withTotal);
+    }
+
+    public static Pageable of(int page, int size, Sort sort, boolean withTotal) {
+        return withTotal ? PageRequest.of(page, size, sort) : new SliceRequest(page, size, sort);
+    }
+
+    /**
+     * Same page and size as {@code pageable} with a different sort, keeping the count mode.
+     */
+    public static Pageable withSort(Pageable pageable, Sort sort) {
+        return of(pageable.getPageNumber(), pageable.getPageSize(), sort, isTotalRequested(pageable));
+    }
+
+    public static boolean isTotalRequested(Pageable pageable) {
+        return !(pageable instanceof SliceRequest);
+    }
+}
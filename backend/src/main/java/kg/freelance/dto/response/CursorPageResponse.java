@@ -0,0 +1,18 @@
+package kg.freelance.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+
+    // Opaque token for the next page, null on the last page
+    private String nextCursor;
+}
@@ -0,0 +1,16 @@
+package kg.freelance.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ExecutorPageResponse {
+
+    private ExecutorResponse profile;
+    // First page of visible reviews, newest first
+    private PageResponse<ReviewResponse> reviews;
+    private List<PortfolioResponse> portfolio;
+}
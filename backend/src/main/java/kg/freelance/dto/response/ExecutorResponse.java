@@ -23,6 +23,7 @@ public class ExecutorResponse {
     private BigDecimal rating;
     private Integer reviewCount;
     private Boolean availableForWork;
+    private Boolean notifyNewOrders;
     private LocalDateTime lastActiveAt;
     private LocalDateTime memberSince;
     private List<CategoryResponse> categories;
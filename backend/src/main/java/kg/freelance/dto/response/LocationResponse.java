@@ -0,0 +1,13 @@
+package kg.freelance.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LocationResponse {
+
+    private Long id;
+    private String name;
+    private String slug;
+}
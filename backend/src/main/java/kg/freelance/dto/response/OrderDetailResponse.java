@@ -36,6 +36,7 @@ public class OrderDetailResponse {
 
     // Location
     private String location;
+    private Long locationId;
 
     // Dates
     private LocalDate deadline;
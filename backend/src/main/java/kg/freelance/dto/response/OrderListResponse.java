@@ -23,6 +23,7 @@ public class OrderListResponse {
     private BigDecimal budgetMax;
     private LocalDate deadline;
     private String location;
+    private Long locationId;
     private OrderStatus status;
     private Integer responseCount;
     private LocalDateTime createdAt;
@@ -1,10 +1,14 @@
 package kg.freelance.dto.response;
 
+import kg.freelance.dto.request.SliceRequest;
 import lombok.Builder;
 import lombok.Data;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
+import java.util.function.LongSupplier;
 
 @Data
 @Builder
@@ -13,21 +17,15 @@ public class PageResponse<T> {
     private List<T> content;
     private int page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    // Null when the client asked for withTotal=false
+    private Long totalElements;
+    private Integer totalPages;
     private boolean first;
     private boolean last;
+    private boolean hasNext;
 
     public static <T> PageResponse<T> of(Page<T> page) {
-        return PageResponse.<T>builder()
-                .content(page.getContent())
-                .page(page.getNumber())
-                .size(page.getSize())
-                .totalElements(page.getTotalElements())
-                .totalPages(page.getTotalPages())
-                .first(page.isFirst())
-                .last(page.isLast())
-                .build();
+        return of(page, page.getContent());
     }
 
     public static <T, R> PageResponse<R> of(Page<T> page, List<R> content) {
@@ -39,6 +37,29 @@ public class PageResponse<T> {
                 .totalPages(page.getTotalPages())
                 .first(page.isFirst())
                 .last(page.isLast())
+                .hasNext(page.hasNext())
+                .build();
+    }
+
+    /**
+     * Builds a response from a count-free repository slice. Totals are computed with {@code total}
+     * only when the request did not opt out via {@link SliceRequest}, and the COUNT is skipped
+     * whenever the slice alone already determines them or it is already a {@link Page}.
+     */
+    public static <T, R> PageResponse<R> of(Slice<T> slice, List<R> content, LongSupplier total) {
+        if (SliceRequest.isTotalRequested(slice.getPageable())) {
+            Page<T> page = slice instanceof Page<T> known
+                    ? known
+                    : PageableExecutionUtils.getPage(slice.getContent(), slice.getPageable(), total);
+            return of(page, content);
+        }
+        return PageResponse.<R>builder()
+                .content(content)
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .hasNext(slice.hasNext())
                 .build();
     }
 }
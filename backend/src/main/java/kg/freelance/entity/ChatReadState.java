@@ -0,0 +1,53 @@
+package kg.freelance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Read cursor of one participant in a chat room, written only by ChatReadStateRepository.markRead.
+ */
+@Entity
+@Table(name = "chat_read_state")
+@IdClass(ChatReadState.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatReadState {
+
+    @Id
+    @Column(name = "chat_room_id")
+    private Long chatRoomId;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "last_read_message_id", nullable = false)
+    private Long lastReadMessageId;
+
+    @Column(name = "read_at", nullable = false)
+    private LocalDateTime readAt;
+
+    /**
+     * A message is read once a participant other than its sender has moved their cursor past it.
+     */
+    public static boolean isRead(Collection<ChatReadState> roomStates, Long messageId, Long senderId) {
+        return roomStates.stream()
+                .anyMatch(state -> !state.getUserId().equals(senderId) && state.getLastReadMessageId() >= messageId);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long chatRoomId;
+        private Long userId;
+    }
+}
@@ -37,9 +37,27 @@ public class ChatRoom {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "last_message_at")
+    // Chat list summary, maintained by a trigger on messages and by ChatReadStateRepository.markRead
+    @Column(name = "last_message_at", insertable = false, updatable = false)
     private LocalDateTime lastMessageAt;
 
+    @Column(name = "last_message_id", insertable = false, updatable = false)
+    private Long lastMessageId;
+
+    @Column(name = "last_message_preview", insertable = false, updatable = false)
+    private String lastMessagePreview;
+
+    @Column(name = "last_message_sender_id", insertable = false, updatable = false)
+    private Long lastMessageSenderId;
+
+    @Column(name = "client_unread_count", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    private Integer clientUnreadCount = 0;
+
+    @Column(name = "executor_unread_count", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    private Integer executorUnreadCount = 0;
+
     @OneToMany(mappedBy = "chatRoom", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("createdAt ASC")
     @Builder.Default
@@ -33,27 +33,33 @@ public class ExecutorProfile {
     @Column(length = 200)
     private String specialization;
 
-    @Column(name = "total_orders", nullable = false)
+    // Order stats and review totals are changed only by the atomic UPDATEs in ExecutorProfileRepository,
+    // so a stale copy of the profile flushed later in a transaction cannot overwrite them
+    @Column(name = "total_orders", nullable = false, updatable = false)
     @Builder.Default
     private Integer totalOrders = 0;
 
-    @Column(name = "completed_orders", nullable = false)
+    @Column(name = "completed_orders", nullable = false, updatable = false)
     @Builder.Default
     private Integer completedOrders = 0;
 
-    @Column(name = "disputed_orders", nullable = false)
+    @Column(name = "disputed_orders", nullable = false, updatable = false)
     @Builder.Default
     private Integer disputedOrders = 0;
 
-    @Column(name = "avg_completion_days", nullable = false)
+    @Column(name = "avg_completion_days", nullable = false, updatable = false)
     @Builder.Default
     private Double avgCompletionDays = 0.0;
 
-    @Column(nullable = false, precision = 3, scale = 2)
+    @Column(nullable = false, precision = 3, scale = 2, updatable = false)
     @Builder.Default
     private BigDecimal rating = BigDecimal.ZERO;
 
-    @Column(name = "review_count", nullable = false)
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    @Builder.Default
+    private Long ratingSum = 0L;
+
+    @Column(name = "review_count", nullable = false, updatable = false)
     @Builder.Default
     private Integer reviewCount = 0;
 
@@ -61,9 +67,18 @@ public class ExecutorProfile {
     @Builder.Default
     private Boolean availableForWork = true;
 
-    @Column(name = "last_active_at")
+    @Column(name = "notify_new_orders", nullable = false)
+    @Builder.Default
+    private Boolean notifyNewOrders = false;
+
+    // Written in batches by PresenceTracker
+    @Column(name = "last_active_at", updatable = false)
     private LocalDateTime lastActiveAt;
 
+    // Computed by a database trigger from the stats above, never written by the application
+    @Column(name = "rank_score", insertable = false, updatable = false)
+    private Double rankScore;
+
     // Categories (many-to-many)
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
@@ -37,10 +37,6 @@ public class Message {
     @Column(columnDefinition = "jsonb")
     private List<String> attachments;
 
-    @Column(name = "is_read", nullable = false)
-    @Builder.Default
-    private Boolean isRead = false;
-
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -67,6 +67,10 @@ public class Order {
     @Column(length = 200)
     private String location;
 
+    // Dictionary city, when the location was picked from or matched to the locations table
+    @Column(name = "location_id")
+    private Long locationId;
+
     @Column(name = "is_public", nullable = false)
     @Builder.Default
     private Boolean isPublic = true;
@@ -0,0 +1,8 @@
+package kg.freelance.entity.enums;
+
+public enum OutboxChannel {
+    WEBSOCKET,
+    EMAIL,
+    NOTIFICATION,
+    PUSH
+}
@@ -0,0 +1,7 @@
+package kg.freelance.entity.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
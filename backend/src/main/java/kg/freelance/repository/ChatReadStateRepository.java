@@ -0,0 +1,36 @@
+package kg.freelance.repository;
+
+import kg.freelance.entity.ChatReadState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChatReadStateRepository extends JpaRepository<ChatReadState, ChatReadState.Key> {
+
+    List<ChatReadState> findByChatRoomId(Long chatRoomId);
+
+    // Zeroes the reader's unread counter and moves their cursor to the room's last message in one statement.
+    // The room row lock orders it against chat_rooms_apply_messages, which only counts messages above the
+    // cursor, so a late insert with an id already under the cursor is neither unread nor counted.
+    @Modifying
+    @Query(value = """
+            WITH room AS (
+                UPDATE chat_rooms
+                SET client_unread_count = CASE WHEN client_id = :userId THEN 0 ELSE client_unread_count END,
+                    executor_unread_count = CASE WHEN executor_id = :userId THEN 0 ELSE executor_unread_count END
+                WHERE id = :chatRoomId
+                RETURNING id, last_message_id
+            )
+            INSERT INTO chat_read_state (chat_room_id, user_id, last_read_message_id, read_at)
+            SELECT room.id, :userId, COALESCE(room.last_message_id, 0), CURRENT_TIMESTAMP FROM room
+            ON CONFLICT (chat_room_id, user_id) DO UPDATE
+            SET last_read_message_id = GREATEST(chat_read_state.last_read_message_id, EXCLUDED.last_read_message_id),
+                read_at = EXCLUDED.read_at
+            """, nativeQuery = true)
+    int markRead(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+}
@@ -1,8 +1,9 @@
 package kg.freelance.repository;
 
 import kg.freelance.entity.ChatRoom;
-import org.springframework.data.domain.Page;
+import kg.freelance.repository.projection.ChatMembersView;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -26,18 +27,27 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
                            @Param("clientId") Long clientId,
                            @Param("executorId") Long executorId);
 
+    // The summary columns make this the only query of the chat list
     @Query("""
             SELECT c FROM ChatRoom c
+            JOIN FETCH c.order
+            JOIN FETCH c.client
+            JOIN FETCH c.executor
             WHERE c.client.id = :userId OR c.executor.id = :userId
             ORDER BY c.lastMessageAt DESC NULLS LAST
             """)
-    Page<ChatRoom> findByUserId(@Param("userId") Long userId, Pageable pageable);
+    Slice<ChatRoom> findByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT COUNT(c) FROM ChatRoom c WHERE c.client.id = :userId OR c.executor.id = :userId")
+    long countByUserId(@Param("userId") Long userId);
 
     @Query("""
-            SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END
+            SELECT c.id AS chatRoomId, cl.id AS clientId, cl.email AS clientEmail,
+                   ex.id AS executorId, ex.email AS executorEmail
             FROM ChatRoom c
+            JOIN c.client cl
+            JOIN c.executor ex
             WHERE c.id = :chatRoomId
-            AND (c.client.id = :userId OR c.executor.id = :userId)
             """)
-    boolean isUserParticipant(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+    Optional<ChatMembersView> findMembersById(@Param("chatRoomId") Long chatRoomId);
 }
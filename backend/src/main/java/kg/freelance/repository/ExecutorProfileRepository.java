@@ -1,31 +1,93 @@
 package kg.freelance.repository;
 
 import kg.freelance.entity.ExecutorProfile;
+import kg.freelance.repository.projection.ExecutorCategoryView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ExecutorProfileRepository extends JpaRepository<ExecutorProfile, Long> {
 
+    /**
+     * Filters of the executor search. Candidates come from a UNION of per-table branches so each
+     * branch can use its own index: the name trigram index on users, and a BitmapOr of the
+     * specialization trigram and search_vector indexes on executor_profiles. An OR across both
+     * tables could only be checked row by row after the join. The category is matched through a
+     * join on the executor_categories primary key instead of a per-row subquery.
+     */
+    String EXECUTOR_SEARCH_FROM = """
+            FROM (
+                SELECT mu.id AS user_id FROM users mu
+                WHERE mu.full_name ILIKE '%' || :search || '%'
+                UNION
+                SELECT mp.user_id FROM executor_profiles mp
+                WHERE mp.specialization ILIKE '%' || :search || '%'
+                   OR mp.search_vector @@ plainto_tsquery('russian', :search)
+            ) m
+            JOIN executor_profiles e ON e.user_id = m.user_id
+            JOIN users u ON u.id = e.user_id
+            LEFT JOIN executor_categories ec ON ec.executor_id = e.user_id AND ec.category_id = :categoryId
+            WHERE u.active = true
+            AND u.executor_verified = true
+            AND u.hide_from_executor_list = false
+            AND (CAST(:categoryId AS BIGINT) IS NULL OR ec.category_id IS NOT NULL)
+            AND (CAST(:minRating AS NUMERIC) IS NULL OR e.rating >= :minRating)
+            AND (:availableOnly = false OR e.available_for_work = true)
+            """;
+
     @Query("""
             SELECT e FROM ExecutorProfile e
             JOIN e.user u
             WHERE u.active = true
             AND u.executorVerified = true
             AND u.hideFromExecutorList = false
-            AND (:categoryId IS NULL OR :categoryId IN (SELECT c.id FROM e.categories c))
             AND (:minRating IS NULL OR e.rating >= :minRating)
             AND (:availableOnly = false OR e.availableForWork = true)
-            AND (:search IS NULL OR u.fullName LIKE %:search% OR e.specialization LIKE %:search%)
             """)
     Page<ExecutorProfile> findExecutors(
+            @Param("minRating") BigDecimal minRating,
+            @Param("availableOnly") boolean availableOnly,
+            Pageable pageable
+    );
+
+    // (executor_id, category_id) is the primary key of executor_categories, so the join yields one row per executor
+    @Query("""
+            SELECT e FROM ExecutorProfile e
+            JOIN e.user u
+            JOIN e.categories c
+            WHERE c.id = :categoryId
+            AND u.active = true
+            AND u.executorVerified = true
+            AND u.hideFromExecutorList = false
+            AND (:minRating IS NULL OR e.rating >= :minRating)
+            AND (:availableOnly = false OR e.availableForWork = true)
+            """)
+    Page<ExecutorProfile> findExecutorsInCategory(
+            @Param("categoryId") Long categoryId,
+            @Param("minRating") BigDecimal minRating,
+            @Param("availableOnly") boolean availableOnly,
+            Pageable pageable
+    );
+
+    // Matching is index-backed per branch (see EXECUTOR_SEARCH_FROM), ranking only scores the matched rows
+    @Query(value = "SELECT e.* " + EXECUTOR_SEARCH_FROM + """
+            ORDER BY GREATEST(similarity(u.full_name, :search), similarity(coalesce(e.specialization, ''), :search))
+                     + ts_rank_cd(e.search_vector, plainto_tsquery('russian', :search)) DESC,
+                     e.rating DESC, e.user_id
+            """,
+            countQuery = "SELECT COUNT(*) " + EXECUTOR_SEARCH_FROM,
+            nativeQuery = true)
+    Page<ExecutorProfile> searchExecutors(
             @Param("categoryId") Long categoryId,
             @Param("minRating") BigDecimal minRating,
             @Param("availableOnly") boolean availableOnly,
@@ -33,14 +95,132 @@ public interface ExecutorProfileRepository extends JpaRepository<ExecutorProfile
             Pageable pageable
     );
 
+    String EXECUTOR_RANK_FROM = """
+            FROM executor_categories ec
+            JOIN executor_profiles e ON e.user_id = ec.executor_id
+            JOIN users u ON u.id = e.user_id
+            WHERE ec.category_id = :categoryId
+            AND u.active = true
+            AND u.executor_verified = true
+            AND u.hide_from_executor_list = false
+            """;
+
+    // Walks idx_executor_categories_rank, rank_score is copied there by a trigger
+    @Query(value = "SELECT e.* " + EXECUTOR_RANK_FROM + "ORDER BY ec.rank_score DESC, ec.executor_id",
+            nativeQuery = true)
+    List<ExecutorProfile> findTopExecutorsByCategory(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(value = "SELECT e.* " + EXECUTOR_RANK_FROM + """
+            AND (CAST(:minRating AS NUMERIC) IS NULL OR e.rating >= :minRating)
+            AND (:availableOnly = false OR e.available_for_work = true)
+            ORDER BY ec.rank_score DESC, ec.executor_id
+            """,
+            countQuery = "SELECT COUNT(*) " + EXECUTOR_RANK_FROM + """
+            AND (CAST(:minRating AS NUMERIC) IS NULL OR e.rating >= :minRating)
+            AND (:availableOnly = false OR e.available_for_work = true)
+            """,
+            nativeQuery = true)
+    Page<ExecutorProfile> findExecutorsInCategoryByRank(
+            @Param("categoryId") Long categoryId,
+            @Param("minRating") BigDecimal minRating,
+            @Param("availableOnly") boolean availableOnly,
+            Pageable pageable
+    );
+
+    // The score decays with last_active_at, the update trigger recomputes it for rows touched here
+    @Modifying
+    @Query(value = """
+            UPDATE executor_profiles SET rank_score = executor_rank_score(executor_profiles)
+            WHERE last_active_at > NOW() - INTERVAL '180 days'
+            """, nativeQuery = true)
+    int refreshRankScores();
+
+    @Modifying
+    @Query(value = """
+            UPDATE executor_profiles SET total_orders = total_orders + 1 WHERE user_id = :executorId
+            """, nativeQuery = true)
+    int incrementTotalOrders(@Param("executorId") Long executorId);
+
+    // Running average over all completed orders; a completion without a duration leaves the average as is
+    @Modifying
+    @Query(value = """
+            UPDATE executor_profiles
+            SET completed_orders = completed_orders + 1,
+                avg_completion_days = CASE WHEN CAST(:days AS INTEGER) IS NULL THEN avg_completion_days
+                                           ELSE (avg_completion_days * completed_orders + :days) / (completed_orders + 1) END
+            WHERE user_id = :executorId
+            """, nativeQuery = true)
+    int incrementCompletedOrders(@Param("executorId") Long executorId, @Param("days") Integer days);
+
+    @Modifying
+    @Query(value = "UPDATE executor_profiles SET disputed_orders = disputed_orders + 1 WHERE user_id = :executorId",
+            nativeQuery = true)
+    int incrementDisputedOrders(@Param("executorId") Long executorId);
+
+    // Right-hand side reads the pre-update row, so concurrent review writes serialize on the row lock
+    @Modifying
+    @Query(value = """
+            UPDATE executor_profiles
+            SET rating_sum = rating_sum + :ratingDelta,
+                review_count = review_count + :countDelta,
+                rating = CASE WHEN review_count + :countDelta > 0
+                              THEN ROUND(CAST(rating_sum + :ratingDelta AS NUMERIC) / (review_count + :countDelta), 2)
+                              ELSE 0 END
+            WHERE user_id = :executorId
+            """, nativeQuery = true)
+    int applyReviewDelta(@Param("executorId") Long executorId,
+                         @Param("ratingDelta") int ratingDelta,
+                         @Param("countDelta") int countDelta);
+
+    // Recomputes the totals from visible reviews and rewrites only rows that drifted; null means all executors
+    @Modifying
+    @Query(value = """
+            UPDATE executor_profiles p
+            SET rating_sum = s.rating_sum,
+                review_count = s.review_count,
+                rating = CASE WHEN s.review_count > 0
+                              THEN ROUND(CAST(s.rating_sum AS NUMERIC) / s.review_count, 2)
+                              ELSE 0 END
+            FROM (
+                SELECT e.user_id, COALESCE(SUM(r.rating), 0) AS rating_sum, COUNT(r.id) AS review_count
+                FROM executor_profiles e
+                LEFT JOIN reviews r ON r.executor_id = e.user_id AND r.is_visible = true
+                WHERE CAST(:executorId AS BIGINT) IS NULL OR e.user_id = :executorId
+                GROUP BY e.user_id
+            ) s
+            WHERE p.user_id = s.user_id
+            AND (p.rating_sum <> s.rating_sum OR p.review_count <> s.review_count)
+            """, nativeQuery = true)
+    int reconcileRatings(@Param("executorId") Long executorId);
+
     @Query("""
             SELECT e FROM ExecutorProfile e
+            JOIN FETCH e.user
+            LEFT JOIN FETCH e.categories
+            WHERE e.id = :id
+            """)
+    Optional<ExecutorProfile> findWithUserAndCategoriesById(@Param("id") Long id);
+
+    // Initializes user and categories of an already loaded page in one query, paging itself cannot fetch-join a collection
+    @Query("""
+            SELECT DISTINCT e FROM ExecutorProfile e
+            JOIN FETCH e.user
+            LEFT JOIN FETCH e.categories
+            WHERE e.id IN :ids
+            """)
+    List<ExecutorProfile> findWithUserAndCategoriesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT category_id FROM executor_categories WHERE executor_id = :executorId", nativeQuery = true)
+    List<Long> findCategoryIds(@Param("executorId") Long executorId);
+
+    // Offline executors who asked for new-order pushes in any of the given categories
+    @Query("""
+            SELECT e.user.id AS userId, c.id AS categoryId FROM ExecutorProfile e
             JOIN e.categories c
-            WHERE c.id = :categoryId
+            WHERE c.id IN :categoryIds
+            AND e.notifyNewOrders = true
             AND e.user.active = true
-            AND e.user.executorVerified = true
-            AND e.user.hideFromExecutorList = false
-            ORDER BY e.rating DESC
+            AND e.user.fcmToken IS NOT NULL
             """)
-    List<ExecutorProfile> findTopExecutorsByCategory(@Param("categoryId") Long categoryId, Pageable pageable);
+    List<ExecutorCategoryView> findNewOrderPushSubscribers(@Param("categoryIds") Collection<Long> categoryIds);
 }
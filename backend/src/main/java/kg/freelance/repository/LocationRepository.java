@@ -0,0 +1,16 @@
+package kg.freelance.repository;
+
+import kg.freelance.entity.Location;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LocationRepository extends JpaRepository<Location, Long> {
+
+    List<Location> findByActiveTrueOrderBySortOrder();
+
+    Optional<Location> findByNameIgnoreCaseAndActiveTrue(String name);
+}
@@ -1,26 +1,37 @@
 package kg.freelance.repository;
 
 import kg.freelance.entity.Message;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
-    Page<Message> findByChatRoomIdOrderByCreatedAtDesc(Long chatRoomId, Pageable pageable);
+    Slice<Message> findByChatRoomIdOrderByCreatedAtDesc(Long chatRoomId, Pageable pageable);
 
-    @Query("SELECT COUNT(m) FROM Message m WHERE m.chatRoom.id = :chatRoomId AND m.isRead = false AND m.sender.id != :userId")
-    long countUnreadMessages(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+    long countByChatRoomId(Long chatRoomId);
 
-    @Modifying
-    @Query("UPDATE Message m SET m.isRead = true WHERE m.chatRoom.id = :chatRoomId AND m.sender.id != :userId AND m.isRead = false")
-    void markMessagesAsRead(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+    // Keyset pages over idx_messages_chat_room_id. Ids are taken from the sequence at insert time, so a
+    // transaction can commit a lower id after a higher one is already visible: id order is not commit order.
+    @Query("""
+            SELECT m FROM Message m
+            JOIN FETCH m.sender
+            WHERE m.chatRoom.id = :chatRoomId AND m.id < :beforeId
+            ORDER BY m.id DESC
+            """)
+    List<Message> findBefore(@Param("chatRoomId") Long chatRoomId, @Param("beforeId") Long beforeId, Pageable pageable);
 
-    @Query("SELECT m FROM Message m WHERE m.chatRoom.id = :chatRoomId ORDER BY m.createdAt DESC LIMIT 1")
-    Message findLastMessageByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+    @Query("""
+            SELECT m FROM Message m
+            JOIN FETCH m.sender
+            WHERE m.chatRoom.id = :chatRoomId AND m.id > :afterId
+            ORDER BY m.id ASC
+            """)
+    List<Message> findAfter(@Param("chatRoomId") Long chatRoomId, @Param("afterId") Long afterId, Pageable pageable);
 }
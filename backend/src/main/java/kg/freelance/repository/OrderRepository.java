@@ -2,8 +2,11 @@ package kg.freelance.repository;
 
 import kg.freelance.entity.Order;
 import kg.freelance.entity.enums.OrderStatus;
+import kg.freelance.repository.projection.ExecutorOrderListView;
+import kg.freelance.repository.projection.OrderListView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -17,18 +20,50 @@ import java.util.List;
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-    @Query(value = """
-            SELECT * FROM orders o
+    /**
+     * Columns for order list cards: a 200-char description snippet instead of the full TEXT,
+     * no attachments, category and client names joined in.
+     */
+    String ORDER_LIST_VIEW = """
+            SELECT o.id AS "id", o.title AS "title",
+                   CASE WHEN LENGTH(o.description) > 200 THEN LEFT(o.description, 200) || '...'
+                        ELSE o.description END AS "description",
+                   o.category_id AS "categoryId", c.name AS "categoryName",
+                   o.client_id AS "clientId", u.full_name AS "clientName",
+                   o.budget_min AS "budgetMin", o.budget_max AS "budgetMax", o.deadline AS "deadline",
+                   o.location AS "location", o.location_id AS "locationId", o.status AS "status",
+                   o.response_count AS "responseCount", o.created_at AS "createdAt"
+            """;
+
+    String ORDER_LIST_VIEW_FROM = """
+            FROM orders o
+            JOIN categories c ON c.id = o.category_id
+            JOIN users u ON u.id = o.client_id
+            """;
+
+    @Query(value = ORDER_LIST_VIEW + ORDER_LIST_VIEW_FROM + """
             WHERE o.is_public = true
             AND o.status = 'NEW'
             AND (o.deadline IS NULL OR o.deadline >= CURRENT_DATE)
             AND (CAST(:categoryId AS BIGINT) IS NULL OR o.category_id = :categoryId)
             AND (CAST(:budgetMin AS NUMERIC) IS NULL OR o.budget_max >= :budgetMin)
             AND (CAST(:budgetMax AS NUMERIC) IS NULL OR o.budget_min <= :budgetMax)
-            AND (:search IS NULL OR to_tsvector('russian', coalesce(o.title, '')) @@ plainto_tsquery('russian', :search))
+            AND (:search IS NULL OR o.search_vector @@ plainto_tsquery('russian', :search))
+            AND (CAST(:locationId AS BIGINT) IS NULL OR o.location_id = :locationId)
             AND (:location IS NULL OR o.location ILIKE '%' || :location || '%')
             """,
-            countQuery = """
+            nativeQuery = true)
+    Slice<OrderListView> findPublicOrders(
+            @Param("categoryId") Long categoryId,
+            @Param("budgetMin") BigDecimal budgetMin,
+            @Param("budgetMax") BigDecimal budgetMax,
+            @Param("search") String search,
+            @Param("location") String location,
+            @Param("locationId") Long locationId,
+            Pageable pageable
+    );
+
+    @Query(value = """
             SELECT COUNT(*) FROM orders o
             WHERE o.is_public = true
             AND o.status = 'NEW'
@@ -36,23 +71,97 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             AND (CAST(:categoryId AS BIGINT) IS NULL OR o.category_id = :categoryId)
             AND (CAST(:budgetMin AS NUMERIC) IS NULL OR o.budget_max >= :budgetMin)
             AND (CAST(:budgetMax AS NUMERIC) IS NULL OR o.budget_min <= :budgetMax)
-            AND (:search IS NULL OR to_tsvector('russian', coalesce(o.title, '')) @@ plainto_tsquery('russian', :search))
+            AND (:search IS NULL OR o.search_vector @@ plainto_tsquery('russian', :search))
+            AND (CAST(:locationId AS BIGINT) IS NULL OR o.location_id = :locationId)
+            AND (:location IS NULL OR o.location ILIKE '%' || :location || '%')
+            """, nativeQuery = true)
+    long countPublicOrders(
+            @Param("categoryId") Long categoryId,
+            @Param("budgetMin") BigDecimal budgetMin,
+            @Param("budgetMax") BigDecimal budgetMax,
+            @Param("search") String search,
+            @Param("location") String location,
+            @Param("locationId") Long locationId
+    );
+
+    @Query(value = ORDER_LIST_VIEW + ORDER_LIST_VIEW_FROM + """
+            WHERE o.is_public = true
+            AND o.status = 'NEW'
+            AND (o.deadline IS NULL OR o.deadline >= CURRENT_DATE)
+            AND (CAST(:categoryId AS BIGINT) IS NULL OR o.category_id = :categoryId)
+            AND (CAST(:budgetMin AS NUMERIC) IS NULL OR o.budget_max >= :budgetMin)
+            AND (CAST(:budgetMax AS NUMERIC) IS NULL OR o.budget_min <= :budgetMax)
+            AND o.search_vector @@ plainto_tsquery('russian', :search)
+            AND (CAST(:locationId AS BIGINT) IS NULL OR o.location_id = :locationId)
             AND (:location IS NULL OR o.location ILIKE '%' || :location || '%')
+            ORDER BY ts_rank_cd(o.search_vector, plainto_tsquery('russian', :search)) DESC, o.created_at DESC
             """,
             nativeQuery = true)
-    Page<Order> findPublicOrders(
+    Slice<OrderListView> findPublicOrdersByRelevance(
             @Param("categoryId") Long categoryId,
             @Param("budgetMin") BigDecimal budgetMin,
             @Param("budgetMax") BigDecimal budgetMax,
             @Param("search") String search,
             @Param("location") String location,
+            @Param("locationId") Long locationId,
             Pageable pageable
     );
 
+    @Query(value = ORDER_LIST_VIEW + ORDER_LIST_VIEW_FROM + """
+            WHERE o.is_public = true
+            AND o.status = 'NEW'
+            AND (o.deadline IS NULL OR o.deadline >= CURRENT_DATE)
+            AND (CAST(:categoryId AS BIGINT) IS NULL OR o.category_id = :categoryId)
+            AND (CAST(:budgetMin AS NUMERIC) IS NULL OR o.budget_max >= :budgetMin)
+            AND (CAST(:budgetMax AS NUMERIC) IS NULL OR o.budget_min <= :budgetMax)
+            AND (:search IS NULL OR o.search_vector @@ plainto_tsquery('russian', :search))
+            AND (CAST(:locationId AS BIGINT) IS NULL OR o.location_id = :locationId)
+            AND (:location IS NULL OR o.location ILIKE '%' || :location || '%')
+            AND (CAST(:cursorCreatedAt AS TIMESTAMP) IS NULL
+                 OR (o.created_at, o.id) < (CAST(:cursorCreatedAt AS TIMESTAMP), CAST(:cursorId AS BIGINT)))
+            ORDER BY o.created_at DESC, o.id DESC
+            LIMIT :limit
+            """,
+            nativeQuery = true)
+    List<OrderListView> findPublicOrdersAfter(
+            @Param("categoryId") Long categoryId,
+            @Param("budgetMin") BigDecimal budgetMin,
+            @Param("budgetMax") BigDecimal budgetMax,
+            @Param("search") String search,
+            @Param("location") String location,
+            @Param("locationId") Long locationId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = ORDER_LIST_VIEW + ORDER_LIST_VIEW_FROM + """
+            WHERE o.client_id = :clientId
+            ORDER BY o.created_at DESC
+            """,
+            nativeQuery = true)
+    Slice<OrderListView> findClientOrderViews(@Param("clientId") Long clientId, Pageable pageable);
+
+    long countByClientId(Long clientId);
+
+    @Query(value = ORDER_LIST_VIEW + """
+            , r.is_selected AS "isExecutorSelected"
+            FROM order_responses r
+            JOIN orders o ON o.id = r.order_id
+            JOIN categories c ON c.id = o.category_id
+            JOIN users u ON u.id = o.client_id
+            WHERE r.executor_id = :executorId
+            ORDER BY r.created_at DESC
+            """,
+            nativeQuery = true)
+    Slice<ExecutorOrderListView> findExecutorOrderViews(@Param("executorId") Long executorId, Pageable pageable);
+
     Page<Order> findByClientIdOrderByCreatedAtDesc(Long clientId, Pageable pageable);
 
     Page<Order> findByExecutorIdOrderByCreatedAtDesc(Long executorId, Pageable pageable);
 
+    Slice<Order> findAllBy(Pageable pageable);
+
     List<Order> findByClientIdAndStatusInOrderByCreatedAtDesc(Long clientId, List<OrderStatus> statuses);
 
     List<Order> findByExecutorIdAndStatusInOrderByCreatedAtDesc(Long executorId, List<OrderStatus> statuses);
@@ -60,10 +169,6 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT COUNT(o) FROM Order o WHERE o.executor.id = :executorId AND o.status = :status")
     long countByExecutorIdAndStatus(@Param("executorId") Long executorId, @Param("status") OrderStatus status);
 
-    @Modifying
-    @Query("UPDATE Order o SET o.viewCount = o.viewCount + 1 WHERE o.id = :orderId")
-    void incrementViewCount(@Param("orderId") Long orderId);
-
     @Modifying
     @Query("UPDATE Order o SET o.responseCount = o.responseCount + 1 WHERE o.id = :orderId")
     void incrementResponseCount(@Param("orderId") Long orderId);
@@ -1,26 +1,50 @@
 package kg.freelance.repository;
 
 import kg.freelance.entity.OrderResponse;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface OrderResponseRepository extends JpaRepository<OrderResponse, Long> {
 
-    List<OrderResponse> findByOrderIdOrderByCreatedAtDesc(Long orderId);
-
-    Page<OrderResponse> findByExecutorIdOrderByCreatedAtDesc(Long executorId, Pageable pageable);
+    // Order and executor are fetch-joined so mapping a list of responses stays a single query
+    @Query("""
+            SELECT r FROM OrderResponse r
+            JOIN FETCH r.order
+            JOIN FETCH r.executor
+            WHERE r.order.id = :orderId
+            ORDER BY r.createdAt DESC
+            """)
+    List<OrderResponse> findByOrderIdOrderByCreatedAtDesc(@Param("orderId") Long orderId);
+
+    @Query("""
+            SELECT r FROM OrderResponse r
+            JOIN FETCH r.order
+            JOIN FETCH r.executor
+            WHERE r.executor.id = :executorId
+            ORDER BY r.createdAt DESC
+            """)
+    Slice<OrderResponse> findByExecutorIdOrderByCreatedAtDesc(@Param("executorId") Long executorId, Pageable pageable);
+
+    long countByExecutorId(Long executorId);
 
     Optional<OrderResponse> findByOrderIdAndExecutorId(Long orderId, Long executorId);
 
     boolean existsByOrderIdAndExecutorId(Long orderId, Long executorId);
 
+    // Which of the given orders the executor has already responded to (one query per page)
+    @Query("SELECT r.order.id FROM OrderResponse r WHERE r.executor.id = :executorId AND r.order.id IN :orderIds")
+    Set<Long> findRespondedOrderIds(@Param("executorId") Long executorId, @Param("orderIds") Collection<Long> orderIds);
+
     long countByOrderId(Long orderId);
 
     // Analytics queries
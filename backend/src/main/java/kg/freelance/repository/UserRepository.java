@@ -2,6 +2,8 @@ package kg.freelance.repository;
 
 import kg.freelance.entity.User;
 import kg.freelance.entity.enums.UserRole;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -15,6 +17,8 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    Slice<User> findAllBy(Pageable pageable);
+
     Optional<User> findByEmail(String email);
 
     Optional<User> findByPhone(String phone);
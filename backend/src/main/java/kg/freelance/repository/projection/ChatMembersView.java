@@ -0,0 +1,17 @@
+package kg.freelance.repository.projection;
+
+/**
+ * Participants of a chat room with the emails used as STOMP user names.
+ */
+public interface ChatMembersView {
+
+    Long getChatRoomId();
+
+    Long getClientId();
+
+    String getClientEmail();
+
+    Long getExecutorId();
+
+    String getExecutorEmail();
+}
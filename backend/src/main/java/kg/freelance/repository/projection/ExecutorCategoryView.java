@@ -0,0 +1,11 @@
+package kg.freelance.repository.projection;
+
+/**
+ * One (executor, category) pair from executor_categories.
+ */
+public interface ExecutorCategoryView {
+
+    Long getUserId();
+
+    Long getCategoryId();
+}
@@ -0,0 +1,9 @@
+package kg.freelance.repository.projection;
+
+/**
+ * Order list row for the executor's response history.
+ */
+public interface ExecutorOrderListView extends OrderListView {
+
+    Boolean getIsExecutorSelected();
+}
@@ -0,0 +1,43 @@
+package kg.freelance.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * List-card columns of an order with category and client names joined in,
+ * see {@link kg.freelance.repository.OrderRepository#ORDER_LIST_VIEW}.
+ * Description is a snippet cut in SQL, attachments are not selected.
+ */
+public interface OrderListView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    Long getClientId();
+
+    String getClientName();
+
+    BigDecimal getBudgetMin();
+
+    BigDecimal getBudgetMax();
+
+    LocalDate getDeadline();
+
+    String getLocation();
+
+    Long getLocationId();
+
+    String getStatus();
+
+    Integer getResponseCount();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,36 @@
+package kg.freelance.service;
+
+import java.util.Optional;
+
+/**
+ * Keeps the participants of chat rooms in memory, so STOMP frames are authorized and routed
+ * to the other participant without the database. Participants of a room never change,
+ * entries only go away when the room is deleted or expire.
+ */
+public interface ChatMembershipCache {
+
+    /**
+     * Participants of the room, loaded on first use; empty if the room does not exist.
+     */
+    Optional<ChatMembership> get(Long chatRoomId);
+
+    /**
+     * Drops the room, after the current transaction commits.
+     */
+    void evict(Long chatRoomId);
+
+    record ChatMembership(Long chatRoomId, Long clientId, String clientEmail, Long executorId, String executorEmail) {
+
+        public boolean isParticipant(Long userId) {
+            return clientId.equals(userId) || executorId.equals(userId);
+        }
+
+        public Long otherParticipantId(Long userId) {
+            return clientId.equals(userId) ? executorId : clientId;
+        }
+
+        public String otherParticipantEmail(Long userId) {
+            return clientId.equals(userId) ? executorEmail : clientEmail;
+        }
+    }
+}
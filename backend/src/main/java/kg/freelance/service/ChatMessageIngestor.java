@@ -0,0 +1,20 @@
+package kg.freelance.service;
+
+import kg.freelance.dto.request.ChatMessageRequest;
+import kg.freelance.websocket.dto.WsMessage;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Optional group-commit path for chat messages sent over STOMP, enabled with app.chat.ingest.enabled.
+ * Messages go to a bounded queue and a single writer thread inserts them in batches, one transaction
+ * per batch. The caller must have checked that the sender is a participant of the room.
+ */
+public interface ChatMessageIngestor {
+
+    /**
+     * Queues the message. The future completes with the stored message once its batch has committed,
+     * or exceptionally if it could not be stored. A full queue makes the caller write the message itself.
+     */
+    CompletableFuture<WsMessage> submit(Long chatRoomId, Long senderId, ChatMessageRequest request);
+}
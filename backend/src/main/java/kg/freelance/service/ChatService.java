@@ -2,6 +2,7 @@ package kg.freelance.service;
 
 import kg.freelance.dto.request.ChatMessageRequest;
 import kg.freelance.dto.response.ChatRoomResponse;
+import kg.freelance.dto.response.CursorPageResponse;
 import kg.freelance.dto.response.MessageResponse;
 import kg.freelance.dto.response.PageResponse;
 import kg.freelance.entity.ChatRoom;
@@ -24,6 +25,14 @@ public interface ChatService {
     // Messages
     PageResponse<MessageResponse> getChatMessages(Long chatRoomId, Long userId, Pageable pageable);
 
+    /**
+     * Keyset page of messages. With {@code before} (or no cursor) the page holds older messages newest first,
+     * with {@code after} it holds newer messages oldest first, for clients catching up after a reconnect.
+     * Message ids follow insertion, not commit order, so with {@code after} the page stops short of messages
+     * younger than the settle window, and {@code nextCursor} is always set to where the next poll resumes.
+     */
+    CursorPageResponse<MessageResponse> getMessageHistory(Long chatRoomId, Long userId, Long before, Long after, int limit);
+
     MessageResponse sendMessage(Long chatRoomId, Long senderId, ChatMessageRequest request);
 
     WsMessage sendMessageWs(Long chatRoomId, Long senderId, ChatMessageRequest request);
@@ -0,0 +1,22 @@
+package kg.freelance.service;
+
+import kg.freelance.dto.response.ExecutorPageResponse;
+
+import java.util.function.Supplier;
+
+/**
+ * Keeps assembled public executor pages in memory together with an ETag of their JSON,
+ * so repeated profile visits are answered without the database and unchanged pages with a 304.
+ */
+public interface ExecutorPageCache {
+
+    ExecutorPage get(Long executorId, Supplier<ExecutorPageResponse> loader);
+
+    /**
+     * Drops the cached page of the executor, after the current transaction commits.
+     */
+    void evict(Long executorId);
+
+    record ExecutorPage(ExecutorPageResponse page, String etag) {
+    }
+}
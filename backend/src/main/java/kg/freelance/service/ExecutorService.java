@@ -9,6 +9,9 @@ import java.util.List;
 
 public interface ExecutorService {
 
+    // Sort property for the precomputed catalogue ranking
+    String SORT_RANK = "rankScore";
+
     PageResponse<ExecutorListResponse> getExecutors(
             Long categoryId,
             BigDecimal minRating,
@@ -29,5 +32,15 @@ public interface ExecutorService {
 
     List<PortfolioResponse> getExecutorPortfolio(Long executorId);
 
+    /**
+     * Profile, first reviews page and portfolio for the public executor page, served from {@link ExecutorPageCache}.
+     */
+    ExecutorPageCache.ExecutorPage getExecutorPage(Long executorId);
+
+    /**
+     * Recomputes ranking scores whose activity component has decayed. Returns the number of profiles updated.
+     */
+    int refreshRankScores();
+
     boolean hasExecutorProfile(Long userId);
 }
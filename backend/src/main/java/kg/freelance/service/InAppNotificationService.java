@@ -9,8 +9,16 @@ import org.springframework.data.domain.Pageable;
 
 public interface InAppNotificationService {
 
+    /**
+     * Stores the notification, pushes it over WebSocket and sends an FCM push.
+     */
     void send(User recipient, NotificationType type, String title, String message, Order order, String link);
 
+    /**
+     * Stores the notification and pushes it over WebSocket only, for callers that deliver the FCM push separately.
+     */
+    void sendInApp(User recipient, NotificationType type, String title, String message, Order order, String link);
+
     PageResponse<NotificationResponse> getNotifications(Long userId, Pageable pageable);
 
     long getUnreadCount(Long userId);
@@ -0,0 +1,10 @@
+package kg.freelance.service;
+
+import kg.freelance.dto.response.LocationResponse;
+
+import java.util.List;
+
+public interface LocationService {
+
+    List<LocationResponse> getActiveLocations();
+}
@@ -0,0 +1,28 @@
+package kg.freelance.service;
+
+import kg.freelance.repository.projection.OrderListView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the first pages of the public order list in memory per (category, sort),
+ * so the landing page is served without touching the database.
+ */
+public interface OrderFeedCache {
+
+    /**
+     * Only unfiltered or category-only requests for one of the first pages are cached.
+     */
+    boolean isCacheable(Long categoryId, BigDecimal budgetMin, BigDecimal budgetMax,
+                        String search, String location, Long locationId, Pageable pageable);
+
+    Slice<OrderListView> get(Long categoryId, Pageable pageable, Supplier<Slice<OrderListView>> loader);
+
+    /**
+     * Drops cached pages that may list orders of the category, after the current transaction commits.
+     */
+    void evictCategory(Long categoryId);
+}
@@ -0,0 +1,39 @@
+package kg.freelance.service;
+
+import kg.freelance.entity.Order;
+
+import java.util.Collection;
+
+/**
+ * Pushes newly published orders to executors working in the order's category: over STOMP to
+ * executors who are online, over FCM to offline executors who opted in. Orders are batched and
+ * each executor receives a bounded number of pushes per minute.
+ */
+public interface OrderFeedNotifier {
+
+    /**
+     * Queues the order for the next batch once the current transaction commits.
+     */
+    void orderPublished(Order order);
+
+    /**
+     * Registers a STOMP session. Executors are indexed under their categories.
+     */
+    void userConnected(Long userId, String username, String sessionId);
+
+    /**
+     * Closes one STOMP session. The user is unindexed only when their last session closes;
+     * closing a session that is not registered does nothing.
+     */
+    void userDisconnected(Long userId, String sessionId);
+
+    /**
+     * Replaces the categories of an online executor after a profile change.
+     */
+    void updateCategories(Long userId, Collection<Long> categoryIds);
+
+    /**
+     * Delivers queued orders. Returns the number of executors notified.
+     */
+    int flush();
+}
@@ -9,6 +9,9 @@ import java.util.List;
 
 public interface OrderService {
 
+    // Sort property for ranking public orders by full-text relevance to the search term
+    String SORT_RELEVANCE = "relevance";
+
     // Public orders
     PageResponse<OrderListResponse> getPublicOrders(
             Long categoryId,
@@ -16,10 +19,23 @@ public interface OrderService {
             BigDecimal budgetMax,
             String search,
             String location,
+            Long locationId,
             Long userId,
             Pageable pageable
     );
 
+    CursorPageResponse<OrderListResponse> getPublicOrdersFeed(
+            Long categoryId,
+            BigDecimal budgetMin,
+            BigDecimal budgetMax,
+            String search,
+            String location,
+            Long locationId,
+            Long userId,
+            String cursor,
+            int size
+    );
+
     OrderDetailResponse getOrderById(Long orderId, Long userId);
 
     // Client operations
@@ -0,0 +1,20 @@
+package kg.freelance.service;
+
+/**
+ * Buffers order view increments in memory and writes them to orders.view_count in batches,
+ * so viewing an order never takes a row lock.
+ */
+public interface OrderViewCounter {
+
+    void recordView(Long orderId);
+
+    /**
+     * Views recorded for the order that have not been flushed yet.
+     */
+    long getPendingViews(Long orderId);
+
+    /**
+     * Writes all buffered deltas to the database. Returns the number of orders updated.
+     */
+    int flush();
+}
@@ -0,0 +1,43 @@
+package kg.freelance.service;
+
+import kg.freelance.entity.Order;
+import kg.freelance.entity.User;
+import kg.freelance.entity.enums.NotificationType;
+
+/**
+ * Transactional outbox for side effects of order changes. Enqueue methods must run inside the
+ * caller's transaction, so an event exists if and only if the change that produced it committed.
+ * A background dispatcher delivers the events afterwards and retries failed ones.
+ */
+public interface OutboxService {
+
+    enum EmailTemplate {
+        EXECUTOR_SELECTED,
+        WORK_SUBMITTED_FOR_REVIEW,
+        WORK_APPROVED,
+        REVISION_REQUESTED,
+        NEW_ORDER_RESPONSE
+    }
+
+    void enqueueWebSocket(User recipient, String destination, Object payload);
+
+    void enqueueEmail(EmailTemplate template, User recipient, Order order);
+
+    /**
+     * @param actor  the other party of the order, used by NEW_ORDER_RESPONSE
+     * @param reason free text, used by REVISION_REQUESTED
+     */
+    void enqueueEmail(EmailTemplate template, User recipient, Order order, User actor, String reason);
+
+    void enqueueNotification(User recipient, NotificationType type, String title, String message, Order order, String link);
+
+    /**
+     * Delivers due events until none are left. Returns the number of events delivered.
+     */
+    int dispatchPending();
+
+    /**
+     * Deletes delivered events older than the retention period. Returns the number of rows removed.
+     */
+    int purgeSent();
+}
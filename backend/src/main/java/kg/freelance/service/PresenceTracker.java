@@ -0,0 +1,16 @@
+package kg.freelance.service;
+
+/**
+ * Remembers when users were last seen (authenticated requests, WebSocket sessions) and
+ * writes the timestamps to executor_profiles.last_active_at in periodic batches,
+ * so activity never costs a write per request.
+ */
+public interface PresenceTracker {
+
+    void touch(Long userId);
+
+    /**
+     * Writes the buffered timestamps to the database. Returns the number of users flushed.
+     */
+    int flush();
+}
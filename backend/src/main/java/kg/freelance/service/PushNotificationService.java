@@ -6,7 +6,15 @@ import java.util.Map;
 
 public interface PushNotificationService {
 
+    /**
+     * Fire and forget, failures are logged.
+     */
     void sendPush(User recipient, String title, String body, Map<String, String> data);
 
+    /**
+     * Sends on the calling thread and throws when FCM rejects the message, for callers that retry.
+     */
+    void sendPushNow(User recipient, String title, String body, Map<String, String> data);
+
     void updateFcmToken(Long userId, String token);
 }
@@ -21,5 +21,13 @@ public interface ReviewService {
 
     boolean hasReview(Long orderId);
 
+    /**
+     * Shifts the executor's review totals by a visible review being added, removed or re-rated.
+     * Must run in the transaction that changes the review.
+     */
+    void adjustExecutorRating(Long executorId, int ratingDelta, int countDelta);
+
     void recalculateExecutorRating(Long executorId);
+
+    int reconcileExecutorRatings();
 }
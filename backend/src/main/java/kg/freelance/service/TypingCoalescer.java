@@ -0,0 +1,19 @@
+package kg.freelance.service;
+
+/**
+ * Coalesces typing indicator frames per (room, user) before they reach the other participant:
+ * state changes are forwarded at once, repeated "typing" frames at most once per interval,
+ * and a "stopped typing" is sent for users who went quiet without saying so.
+ */
+public interface TypingCoalescer {
+
+    /**
+     * Handles one typing frame of the user; {@code recipient} is the STOMP user name of the other participant.
+     */
+    void typing(Long chatRoomId, Long userId, String userName, String recipient, boolean isTyping);
+
+    /**
+     * Sends "stopped typing" for users quiet longer than the quiet period. Returns the number of users expired.
+     */
+    int expireQuiet();
+}
@@ -0,0 +1,22 @@
+package kg.freelance.service;
+
+import kg.freelance.entity.User;
+
+import java.util.Optional;
+
+/**
+ * Resolves who is looking at a resource (user entity, verification, order access) once per HTTP request.
+ * Results are memoized in request attributes, so order detail, responses and chat share the lookups.
+ * Outside a request (WebSocket frames, scheduled jobs) every call goes to the database.
+ */
+public interface ViewerContext {
+
+    Optional<User> getUser(Long userId);
+
+    boolean isVerified(Long userId);
+
+    /**
+     * Verification plus an active subscription when one is required, see {@link SubscriptionService#canAccessOrders}.
+     */
+    boolean canAccessOrders(Long userId);
+}
@@ -12,12 +12,15 @@ import kg.freelance.repository.*;
 import kg.freelance.dto.request.ResolveDisputeRequest;
 import kg.freelance.repository.DisputeRepository;
 import kg.freelance.service.AdminService;
+import kg.freelance.service.ChatMembershipCache;
 import kg.freelance.service.DisputeService;
+import kg.freelance.service.OrderFeedCache;
 import kg.freelance.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +48,8 @@ public class AdminServiceImpl implements AdminService {
     private final DisputeService disputeService;
     private final SubscriptionSettingsRepository subscriptionSettingsRepository;
     private final OrderResponseRepository orderResponseRepository;
+    private final ChatMembershipCache chatMembershipCache;
+    private final OrderFeedCache orderFeedCache;
 
     // ==================== USERS ====================
 
@@ -52,7 +57,7 @@ public class AdminServiceImpl implements AdminService {
     @Transactional(readOnly = true)
     public PageResponse<AdminUserResponse> getAllUsers(String search, Boolean active, UserRole role, Pageable pageable) {
         // Simple implementation - in production use Specification or QueryDSL
-        Page<User> page = userRepository.findAll(pageable);
+        Slice<User> page = userRepository.findAllBy(pageable);
 
         List<AdminUserResponse> content = page.getContent().stream()
                 .filter(u -> search == null || u.getFullName().toLowerCase().contains(search.toLowerCase())
@@ -62,7 +67,7 @@ public class AdminServiceImpl implements AdminService {
                 .map(this::mapToAdminUserResponse)
                 .collect(Collectors.toList());
 
-        return PageResponse.of(page, content);
+        return PageResponse.of(page, content, userRepository::count);
     }
 
     @Override
@@ -105,7 +110,7 @@ public class AdminServiceImpl implements AdminService {
     @Override
     @Transactional(readOnly = true)
     public PageResponse<AdminOrderResponse> getAllOrders(OrderStatus status, Long categoryId, Pageable pageable) {
-        Page<Order> page = orderRepository.findAll(pageable);
+        Slice<Order> page = orderRepository.findAllBy(pageable);
 
         List<AdminOrderResponse> content = page.getContent().stream()
                 .filter(o -> status == null || o.getStatus().equals(status))
@@ -113,7 +118,7 @@ public class AdminServiceImpl implements AdminService {
                 .map(this::mapToAdminOrderResponse)
                 .collect(Collectors.toList());
 
-        return PageResponse.of(page, content);
+        return PageResponse.of(page, content, orderRepository::count);
     }
 
     @Override
@@ -163,6 +168,9 @@ public class AdminServiceImpl implements AdminService {
                 order.setCompletedAt(LocalDateTime.now());
             }
             orderRepository.save(order);
+            if (order.getIsPublic()) {
+                orderFeedCache.evictCategory(order.getCategory().getId());
+            }
         }
     }
 
@@ -171,7 +179,12 @@ public class AdminServiceImpl implements AdminService {
     public void deleteOrder(Long orderId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", orderId));
+        // Chat rooms go with the order
+        order.getChatRooms().forEach(room -> chatMembershipCache.evict(room.getId()));
         orderRepository.delete(order);
+        if (order.getIsPublic()) {
+            orderFeedCache.evictCategory(order.getCategory().getId());
+        }
     }
 
     // ==================== CATEGORIES ====================
@@ -263,26 +276,26 @@ public class AdminServiceImpl implements AdminService {
     @Override
     @Transactional(readOnly = true)
     public PageResponse<AdminReviewResponse> getPendingReviews(Pageable pageable) {
-        Page<Review> page = reviewRepository.findByIsModeratedFalseOrderByCreatedAtAsc(pageable);
+        Slice<Review> page = reviewRepository.findByIsModeratedFalseOrderByCreatedAtAsc(pageable);
 
         List<AdminReviewResponse> content = page.getContent().stream()
                 .map(this::mapToAdminReviewResponse)
                 .collect(Collectors.toList());
 
-        return PageResponse.of(page, content);
+        return PageResponse.of(page, content, reviewRepository::countByIsModeratedFalse);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PageResponse<AdminReviewResponse> getAllReviews(Boolean moderated, Pageable pageable) {
-        Page<Review> page = reviewRepository.findAll(pageable);
+        Slice<Review> page = reviewRepository.findAllBy(pageable);
 
         List<AdminReviewResponse> content = page.getContent().stream()
                 .filter(r -> moderated == null || r.getIsModerated().equals(moderated))
                 .map(this::mapToAdminReviewResponse)
                 .collect(Collectors.toList());
 
-        return PageResponse.of(page, content);
+        return PageResponse.of(page, content, reviewRepository::count);
     }
 
     @Override
@@ -291,12 +304,14 @@ public class AdminServiceImpl implements AdminService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException("Review", "id", reviewId));
 
+        boolean wasVisible = review.getIsVisible();
         review.setIsModerated(true);
         review.setIsVisible(true);
         reviewRepository.save(review);
 
-        // Recalculate rating
-        reviewService.recalculateExecutorRating(review.getExecutor().getId());
+        if (!wasVisible) {
+            reviewService.adjustExecutorRating(review.getExecutor().getId(), review.getRating(), 1);
+        }
     }
 
     @Override
@@ -305,13 +320,15 @@ public class AdminServiceImpl implements AdminService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException("Review", "id", reviewId));
 
+        boolean wasVisible = review.getIsVisible();
         review.setIsModerated(true);
         review.setIsVisible(false);
         review.setModeratorComment(reason);
         reviewRepository.save(review);
 
-        // Recalculate rating
-        reviewService.recalculateExecutorRating(review.getExecutor().getId());
+        if (wasVisible) {
+            reviewService.adjustExecutorRating(review.getExecutor().getId(), -review.getRating(), -1);
+        }
     }
 
     @Override
@@ -320,11 +337,11 @@ public class AdminServiceImpl implements AdminService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException("Review", "id", reviewId));
 
-        Long executorId = review.getExecutor().getId();
         reviewRepository.delete(review);
 
-        // Recalculate rating
-        reviewService.recalculateExecutorRating(executorId);
+        if (review.getIsVisible()) {
+            reviewService.adjustExecutorRating(review.getExecutor().getId(), -review.getRating(), -1);
+        }
     }
 
     // ==================== STATS ====================
@@ -75,6 +75,7 @@ public class AuthServiceImpl implements AuthService {
         executorProfile.setAvgCompletionDays(0.0);
         executorProfile.setRating(java.math.BigDecimal.ZERO);
         executorProfile.setReviewCount(0);
+        executorProfile.setRatingSum(0L);
         executorProfile.setAvailableForWork(true);
         executorProfileRepository.save(executorProfile);
 
@@ -0,0 +1,101 @@
+package kg.freelance.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kg.freelance.repository.ChatRoomRepository;
+import kg.freelance.service.ChatMembershipCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class ChatMembershipCacheImpl implements ChatMembershipCache {
+
+    private final Map<Long, CachedMembership> rooms = new ConcurrentHashMap<>();
+    private final ChatRoomRepository chatRoomRepository;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public ChatMembershipCacheImpl(ChatRoomRepository chatRoomRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.chat.membership-cache.ttl-seconds:3600}") long ttlSeconds,
+                                   @Value("${app.chat.membership-cache.max-entries:20000}") int maxEntries) {
+        this(chatRoomRepository, meterRegistry, Clock.systemUTC(), ttlSeconds, maxEntries);
+    }
+
+    ChatMembershipCacheImpl(ChatRoomRepository chatRoomRepository, MeterRegistry meterRegistry, Clock clock,
+                            long ttlSeconds, int maxEntries) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.clock = clock;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+        this.hits = meterRegistry.counter("chat.membership.cache", "result", "hit");
+        this.misses = meterRegistry.counter("chat.membership.cache", "result", "miss");
+    }
+
+    @Override
+    public Optional<ChatMembership> get(Long chatRoomId) {
+        long now = clock.millis();
+
+        CachedMembership cached = rooms.get(chatRoomId);
+        if (cached != null && cached.expiresAt() > now) {
+            hits.increment();
+            return Optional.of(cached.membership());
+        }
+
+        misses.increment();
+        // Unknown rooms are not remembered, the room may be created right after
+        Optional<ChatMembership> loaded = chatRoomRepository.findMembersById(chatRoomId)
+                .map(view -> new ChatMembership(view.getChatRoomId(), view.getClientId(), view.getClientEmail(),
+                        view.getExecutorId(), view.getExecutorEmail()));
+        if (loaded.isEmpty()) {
+            return loaded;
+        }
+
+        if (cached == null && rooms.size() >= maxEntries) {
+            rooms.values().removeIf(entry -> entry.expiresAt() <= now);
+            // Newly created rooms are the busiest ones, make room for them rather than refusing them
+            if (rooms.size() >= maxEntries) {
+                evictOldest();
+            }
+        }
+        rooms.put(chatRoomId, new CachedMembership(loaded.get(), now + ttlMillis));
+        return loaded;
+    }
+
+    @Override
+    public void evict(Long chatRoomId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rooms.remove(chatRoomId);
+                }
+            });
+        } else {
+            rooms.remove(chatRoomId);
+        }
+    }
+
+    // With a fixed TTL the entry expiring first is the one loaded longest ago
+    private void evictOldest() {
+        rooms.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().expiresAt()))
+                .ifPresent(oldest -> rooms.remove(oldest.getKey(), oldest.getValue()));
+    }
+
+    private record CachedMembership(ChatMembership membership, long expiresAt) {
+    }
+}
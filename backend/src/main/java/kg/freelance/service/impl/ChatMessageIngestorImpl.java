@@ -0,0 +1,244 @@
+package kg.freelance.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kg.freelance.dto.request.ChatMessageRequest;
+import kg.freelance.entity.User;
+import kg.freelance.exception.ResourceNotFoundException;
+import kg.freelance.repository.UserRepository;
+import kg.freelance.service.ChatMessageIngestor;
+import kg.freelance.websocket.dto.WsMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@ConditionalOnProperty(name = "app.chat.ingest.enabled", havingValue = "true")
+@Slf4j
+public class ChatMessageIngestorImpl implements ChatMessageIngestor {
+
+    // Ids come from the sequence up front, so the inserts need no generated keys and batch as plain JDBC
+    private static final String NEXT_IDS_SQL = "SELECT nextval('messages_id_seq') FROM generate_series(1, ?)";
+    private static final String INSERT_SQL = """
+            INSERT INTO messages (id, chat_room_id, sender_id, content, attachments, created_at)
+            VALUES (?, ?, ?, ?, CAST(? AS JSONB), ?)
+            """;
+    // The insert trigger would update the rooms once per row; the batch applies the summary once per room instead
+    private static final String DEFER_SUMMARY_SQL = "SELECT set_config('app.chat_summary_deferred', 'on', true)";
+    private static final String APPLY_SUMMARY_SQL = "SELECT chat_rooms_apply_messages(CAST(? AS BIGINT[]))";
+    private static final long POLL_MILLIS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final int batchSize;
+    private final BlockingQueue<PendingMessage> queue;
+
+    private final DistributionSummary batchSizes;
+    private final Timer commitTimer;
+    private final Counter overflow;
+
+    private volatile boolean stopped;
+    private Thread writer;
+
+    @Autowired
+    public ChatMessageIngestorImpl(JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   UserRepository userRepository,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.chat.ingest.batch-size:100}") int batchSize,
+                                   @Value("${app.chat.ingest.queue-capacity:5000}") int queueCapacity) {
+        this(jdbcTemplate, transactionTemplate, userRepository, objectMapper, meterRegistry,
+                Clock.systemDefaultZone(), batchSize, queueCapacity);
+    }
+
+    ChatMessageIngestorImpl(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            UserRepository userRepository,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            Clock clock,
+                            int batchSize,
+                            int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSizes = DistributionSummary.builder("chat.ingest.batch.size")
+                .description("Messages written per group commit")
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("chat.ingest.commit")
+                .description("Time to insert and commit one batch of chat messages")
+                .register(meterRegistry);
+        this.overflow = meterRegistry.counter("chat.ingest.overflow");
+        Gauge.builder("chat.ingest.queued", queue, Collection::size)
+                .description("Chat messages waiting for the writer")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer = new Thread(this::run, "chat-ingest");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopped = true;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        // Anything submitted while stopping is written by the caller
+        drain();
+    }
+
+    @Override
+    public CompletableFuture<WsMessage> submit(Long chatRoomId, Long senderId, ChatMessageRequest request) {
+        PendingMessage pending = new PendingMessage(chatRoomId, senderId, request.getContent(),
+                request.getAttachments(), LocalDateTime.now(clock), new CompletableFuture<>());
+        if (stopped || !queue.offer(pending)) {
+            // Writing on the caller's thread slows producers down instead of dropping messages
+            overflow.increment();
+            write(List.of(pending));
+        }
+        return pending.future();
+    }
+
+    private void run() {
+        while (!stopped) {
+            try {
+                PendingMessage first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    // Messages arriving while the previous batch commits form the next one
+                    List<PendingMessage> batch = new ArrayList<>(batchSize);
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    write(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Chat ingestion writer failed", e);
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Writes everything queued so far. Returns the number of messages taken from the queue.
+     */
+    int drain() {
+        int drained = 0;
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            drained += batch.size();
+            write(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+        return drained;
+    }
+
+    private void write(List<PendingMessage> batch) {
+        List<WsMessage> written;
+        try {
+            written = commitTimer.record(() -> transactionTemplate.execute(status -> insert(batch)));
+        } catch (RuntimeException e) {
+            if (batch.size() > 1) {
+                // One bad message (deleted room, oversized content) must not fail the others
+                log.warn("Batch of {} chat messages failed, retrying one by one: {}", batch.size(), e.getMessage());
+                batch.forEach(pending -> write(List.of(pending)));
+            } else {
+                batch.get(0).future().completeExceptionally(e);
+            }
+            return;
+        }
+
+        batchSizes.record(batch.size());
+        // Acknowledged only now that the batch is committed
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future().complete(written.get(i));
+        }
+    }
+
+    private List<WsMessage> insert(List<PendingMessage> batch) {
+        Set<Long> senderIds = batch.stream().map(PendingMessage::senderId).collect(Collectors.toSet());
+        Map<Long, User> senders = userRepository.findAllById(senderIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        for (PendingMessage pending : batch) {
+            if (!senders.containsKey(pending.senderId())) {
+                throw new ResourceNotFoundException("User", "id", pending.senderId());
+            }
+        }
+
+        jdbcTemplate.queryForObject(DEFER_SUMMARY_SQL, String.class);
+        List<Long> ids = jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, batch.size());
+
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        List<WsMessage> messages = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage pending = batch.get(i);
+            User sender = senders.get(pending.senderId());
+            rows.add(new Object[]{ids.get(i), pending.chatRoomId(), pending.senderId(), pending.content(),
+                    toJson(pending.attachments()), Timestamp.valueOf(pending.createdAt())});
+            messages.add(WsMessage.builder()
+                    .id(ids.get(i))
+                    .chatRoomId(pending.chatRoomId())
+                    .senderId(sender.getId())
+                    .senderName(sender.getFullName())
+                    .senderAvatarUrl(sender.getAvatarUrl())
+                    .content(pending.content())
+                    .attachments(pending.attachments())
+                    .createdAt(pending.createdAt())
+                    .type(WsMessage.MessageType.CHAT)
+                    .build());
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        jdbcTemplate.queryForObject(APPLY_SUMMARY_SQL, Integer.class,
+                ids.stream().map(String::valueOf).collect(Collectors.joining(",", "{", "}")));
+        return messages;
+    }
+
+    private String toJson(List<String> attachments) {
+        if (attachments == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(attachments);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize message attachments", e);
+        }
+    }
+
+    private record PendingMessage(Long chatRoomId, Long senderId, String content, List<String> attachments,
+                                  LocalDateTime createdAt, CompletableFuture<WsMessage> future) {
+    }
+}
@@ -2,52 +2,100 @@ package kg.freelance.service.impl;
 
 import kg.freelance.dto.request.ChatMessageRequest;
 import kg.freelance.dto.response.ChatRoomResponse;
+import kg.freelance.dto.response.CursorPageResponse;
 import kg.freelance.dto.response.MessageResponse;
 import kg.freelance.dto.response.PageResponse;
+import kg.freelance.entity.ChatReadState;
 import kg.freelance.entity.ChatRoom;
 import kg.freelance.entity.Message;
 import kg.freelance.entity.User;
+import kg.freelance.exception.BadRequestException;
 import kg.freelance.exception.ForbiddenException;
 import kg.freelance.exception.ResourceNotFoundException;
 import kg.freelance.entity.Order;
+import kg.freelance.repository.ChatReadStateRepository;
 import kg.freelance.repository.ChatRoomRepository;
 import kg.freelance.repository.MessageRepository;
 import kg.freelance.repository.OrderRepository;
-import kg.freelance.repository.UserRepository;
+import kg.freelance.service.ChatMembershipCache;
+import kg.freelance.service.ChatMembershipCache.ChatMembership;
 import kg.freelance.service.ChatService;
+import kg.freelance.service.ViewerContext;
 import kg.freelance.websocket.dto.WsMessage;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class ChatServiceImpl implements ChatService {
 
+    private static final int MAX_HISTORY_LIMIT = 100;
+
     private final ChatRoomRepository chatRoomRepository;
     private final MessageRepository messageRepository;
-    private final UserRepository userRepository;
+    private final ChatReadStateRepository chatReadStateRepository;
+    private final ViewerContext viewerContext;
     private final SimpMessagingTemplate messagingTemplate;
     private final OrderRepository orderRepository;
+    private final ChatMembershipCache chatMembershipCache;
+    private final Clock clock;
+    // Longest a message may take from its created_at to its commit, queueing in the ingestor included
+    private final long settleSeconds;
+
+    @Autowired
+    public ChatServiceImpl(ChatRoomRepository chatRoomRepository,
+                           MessageRepository messageRepository,
+                           ChatReadStateRepository chatReadStateRepository,
+                           ViewerContext viewerContext,
+                           SimpMessagingTemplate messagingTemplate,
+                           OrderRepository orderRepository,
+                           ChatMembershipCache chatMembershipCache,
+                           @Value("${app.chat.history.settle-seconds:10}") long settleSeconds) {
+        this(chatRoomRepository, messageRepository, chatReadStateRepository, viewerContext, messagingTemplate,
+                orderRepository, chatMembershipCache, Clock.systemDefaultZone(), settleSeconds);
+    }
+
+    ChatServiceImpl(ChatRoomRepository chatRoomRepository,
+                    MessageRepository messageRepository,
+                    ChatReadStateRepository chatReadStateRepository,
+                    ViewerContext viewerContext,
+                    SimpMessagingTemplate messagingTemplate,
+                    OrderRepository orderRepository,
+                    ChatMembershipCache chatMembershipCache,
+                    Clock clock,
+                    long settleSeconds) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.messageRepository = messageRepository;
+        this.chatReadStateRepository = chatReadStateRepository;
+        this.viewerContext = viewerContext;
+        this.messagingTemplate = messagingTemplate;
+        this.orderRepository = orderRepository;
+        this.chatMembershipCache = chatMembershipCache;
+        this.clock = clock;
+        this.settleSeconds = settleSeconds;
+    }
 
     @Override
     @Transactional(readOnly = true)
     public PageResponse<ChatRoomResponse> getMyChatRooms(Long userId, Pageable pageable) {
-        Page<ChatRoom> page = chatRoomRepository.findByUserId(userId, pageable);
+        Slice<ChatRoom> page = chatRoomRepository.findByUserId(userId, pageable);
 
         List<ChatRoomResponse> content = page.getContent().stream()
                 .map(room -> mapToChatRoomResponse(room, userId))
                 .collect(Collectors.toList());
 
-        return PageResponse.of(page, content);
+        return PageResponse.of(page, content, () -> chatRoomRepository.countByUserId(userId));
     }
 
     @Override
@@ -106,13 +154,63 @@ public class ChatServiceImpl implements ChatService {
         ChatRoom room = getChatRoomEntity(chatRoomId);
         validateParticipant(room, userId);
 
-        Page<Message> page = messageRepository.findByChatRoomIdOrderByCreatedAtDesc(chatRoomId, pageable);
+        Slice<Message> page = messageRepository.findByChatRoomIdOrderByCreatedAtDesc(chatRoomId, pageable);
 
+        List<ChatReadState> readStates = chatReadStateRepository.findByChatRoomId(chatRoomId);
         List<MessageResponse> content = page.getContent().stream()
-                .map(msg -> mapToMessageResponse(msg, userId))
+                .map(msg -> mapToMessageResponse(msg, userId, readStates))
                 .collect(Collectors.toList());
 
-        return PageResponse.of(page, content);
+        return PageResponse.of(page, content, () -> messageRepository.countByChatRoomId(chatRoomId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MessageResponse> getMessageHistory(Long chatRoomId, Long userId,
+                                                                 Long before, Long after, int limit) {
+        if (before != null && after != null) {
+            throw new BadRequestException("Use either before or after, not both");
+        }
+        if (!getMembership(chatRoomId).isParticipant(userId)) {
+            throw new ForbiddenException("You are not a participant of this chat");
+        }
+
+        int size = Math.max(1, Math.min(limit, MAX_HISTORY_LIMIT));
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<Message> messages = after != null
+                ? messageRepository.findAfter(chatRoomId, after, pageable)
+                : messageRepository.findBefore(chatRoomId, before != null ? before : Long.MAX_VALUE, pageable);
+
+        String nextCursor;
+        boolean hasNext;
+        if (after != null) {
+            // Ids follow insertion, not commit order: a lower id may still commit behind a visible higher one.
+            // Stop at the first message that may have uncommitted neighbours below it, so the cursor never
+            // passes an id that could still appear. Clients poll again from nextCursor, nothing is repeated.
+            LocalDateTime settledBefore = LocalDateTime.now(clock).minusSeconds(settleSeconds);
+            int settled = 0;
+            while (settled < messages.size() && messages.get(settled).getCreatedAt().isBefore(settledBefore)) {
+                settled++;
+            }
+            hasNext = settled > size;
+            messages = messages.subList(0, Math.min(settled, size));
+            nextCursor = messages.isEmpty() ? after.toString() : messages.get(messages.size() - 1).getId().toString();
+        } else {
+            hasNext = messages.size() > size;
+            if (hasNext) {
+                messages = messages.subList(0, size);
+            }
+            nextCursor = hasNext ? messages.get(messages.size() - 1).getId().toString() : null;
+        }
+
+        List<ChatReadState> readStates = chatReadStateRepository.findByChatRoomId(chatRoomId);
+        return CursorPageResponse.<MessageResponse>builder()
+                .content(messages.stream().map(msg -> mapToMessageResponse(msg, userId, readStates)).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     @Override
@@ -121,7 +219,7 @@ public class ChatServiceImpl implements ChatService {
         ChatRoom room = getChatRoomEntity(chatRoomId);
         validateParticipant(room, senderId);
 
-        User sender = userRepository.findById(senderId)
+        User sender = viewerContext.getUser(senderId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", senderId));
 
         Message message = Message.builder()
@@ -129,15 +227,11 @@ public class ChatServiceImpl implements ChatService {
                 .sender(sender)
                 .content(request.getContent())
                 .attachments(request.getAttachments())
-                .isRead(false)
                 .build();
 
+        // The insert trigger updates the chat room summary
         message = messageRepository.save(message);
 
-        // Update last message time
-        room.setLastMessageAt(LocalDateTime.now());
-        chatRoomRepository.save(room);
-
         // Send WebSocket notification to the other participant
         User otherUser = getOtherParticipant(room, senderId);
         WsMessage wsMessage = WsMessage.builder()
@@ -159,7 +253,7 @@ public class ChatServiceImpl implements ChatService {
                 wsMessage
         );
 
-        return mapToMessageResponse(message, senderId);
+        return mapToMessageResponse(message, senderId, List.of());
     }
 
     @Override
@@ -168,7 +262,7 @@ public class ChatServiceImpl implements ChatService {
         ChatRoom room = getChatRoomEntity(chatRoomId);
         validateParticipant(room, senderId);
 
-        User sender = userRepository.findById(senderId)
+        User sender = viewerContext.getUser(senderId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", senderId));
 
         Message message = Message.builder()
@@ -176,15 +270,11 @@ public class ChatServiceImpl implements ChatService {
                 .sender(sender)
                 .content(request.getContent())
                 .attachments(request.getAttachments())
-                .isRead(false)
                 .build();
 
+        // The insert trigger updates the chat room summary
         message = messageRepository.save(message);
 
-        // Update last message time
-        room.setLastMessageAt(LocalDateTime.now());
-        chatRoomRepository.save(room);
-
         return WsMessage.builder()
                 .id(message.getId())
                 .chatRoomId(chatRoomId)
@@ -201,37 +291,37 @@ public class ChatServiceImpl implements ChatService {
     @Override
     @Transactional
     public void markMessagesAsRead(Long chatRoomId, Long userId) {
-        ChatRoom room = getChatRoomEntity(chatRoomId);
-        validateParticipant(room, userId);
+        if (!getMembership(chatRoomId).isParticipant(userId)) {
+            throw new ForbiddenException("You are not a participant of this chat");
+        }
 
-        messageRepository.markMessagesAsRead(chatRoomId, userId);
+        chatReadStateRepository.markRead(chatRoomId, userId);
     }
 
     @Override
     public boolean isUserParticipant(Long chatRoomId, Long userId) {
-        return chatRoomRepository.isUserParticipant(chatRoomId, userId);
+        return chatMembershipCache.get(chatRoomId)
+                .map(membership -> membership.isParticipant(userId))
+                .orElse(false);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Long getOtherParticipantId(Long chatRoomId, Long userId) {
-        ChatRoom room = getChatRoomEntity(chatRoomId);
-        return room.getClient().getId().equals(userId)
-                ? room.getExecutor().getId()
-                : room.getClient().getId();
+        return getMembership(chatRoomId).otherParticipantId(userId);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public String getOtherParticipantEmail(Long chatRoomId, Long userId) {
-        ChatRoom room = getChatRoomEntity(chatRoomId);
-        return room.getClient().getId().equals(userId)
-                ? room.getExecutor().getEmail()
-                : room.getClient().getEmail();
+        return getMembership(chatRoomId).otherParticipantEmail(userId);
     }
 
     // Helper methods
 
+    private ChatMembership getMembership(Long chatRoomId) {
+        return chatMembershipCache.get(chatRoomId)
+                .orElseThrow(() -> new ResourceNotFoundException("ChatRoom", "id", chatRoomId));
+    }
+
     private void validateParticipant(ChatRoom room, Long userId) {
         if (!room.getClient().getId().equals(userId) && !room.getExecutor().getId().equals(userId)) {
             throw new ForbiddenException("You are not a participant of this chat");
@@ -245,21 +335,9 @@ public class ChatServiceImpl implements ChatService {
     }
 
     private ChatRoomResponse mapToChatRoomResponse(ChatRoom room, Long userId) {
-        User otherParticipant = room.getClient().getId().equals(userId)
-                ? room.getExecutor()
-                : room.getClient();
-
-        // Get last message
-        String lastMessage = null;
-        Long lastMessageSenderId = null;
-        Message last = messageRepository.findLastMessageByChatRoomId(room.getId());
-        if (last != null) {
-            lastMessage = last.getContent();
-            lastMessageSenderId = last.getSender().getId();
-        }
-
-        // Get unread count
-        long unreadCount = messageRepository.countUnreadMessages(room.getId(), userId);
+        boolean isClient = room.getClient().getId().equals(userId);
+        User otherParticipant = isClient ? room.getExecutor() : room.getClient();
+        Integer unreadCount = isClient ? room.getClientUnreadCount() : room.getExecutorUnreadCount();
 
         return ChatRoomResponse.builder()
                 .id(room.getId())
@@ -268,15 +346,15 @@ public class ChatServiceImpl implements ChatService {
                 .participantId(otherParticipant.getId())
                 .participantName(otherParticipant.getFullName())
                 .participantAvatarUrl(otherParticipant.getAvatarUrl())
-                .lastMessage(lastMessage)
+                .lastMessage(room.getLastMessagePreview())
                 .lastMessageAt(room.getLastMessageAt())
-                .lastMessageSenderId(lastMessageSenderId)
-                .unreadCount(unreadCount)
+                .lastMessageSenderId(room.getLastMessageSenderId())
+                .unreadCount(unreadCount.longValue())
                 .createdAt(room.getCreatedAt())
                 .build();
     }
 
-    private MessageResponse mapToMessageResponse(Message message, Long currentUserId) {
+    private MessageResponse mapToMessageResponse(Message message, Long currentUserId, List<ChatReadState> readStates) {
         User sender = message.getSender();
         return MessageResponse.builder()
                 .id(message.getId())
@@ -286,7 +364,7 @@ public class ChatServiceImpl implements ChatService {
                 .senderAvatarUrl(sender.getAvatarUrl())
                 .content(message.getContent())
                 .attachments(message.getAttachments())
-                .isRead(message.getIsRead())
+                .isRead(ChatReadState.isRead(readStates, message.getId(), sender.getId()))
                 .isMine(sender.getId().equals(currentUserId))
                 .createdAt(message.getCreatedAt())
                 .build();
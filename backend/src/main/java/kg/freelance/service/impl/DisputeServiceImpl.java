@@ -21,6 +21,7 @@ import kg.freelance.websocket.dto.WsMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,6 +41,7 @@ public class DisputeServiceImpl implements DisputeService {
     private final ChatRoomRepository chatRoomRepository;
     private final ExecutorProfileRepository executorProfileRepository;
     private final MessageRepository messageRepository;
+    private final ChatReadStateRepository chatReadStateRepository;
     private final EmailService emailService;
     private final InAppNotificationService inAppNotificationService;
     private final SimpMessagingTemplate messagingTemplate;
@@ -71,11 +73,7 @@ public class DisputeServiceImpl implements DisputeService {
 
         // Update executor disputed orders count
         if (order.getExecutor() != null) {
-            ExecutorProfile profile = executorProfileRepository.findById(order.getExecutor().getId()).orElse(null);
-            if (profile != null) {
-                profile.setDisputedOrders(profile.getDisputedOrders() + 1);
-                executorProfileRepository.save(profile);
-            }
+            executorProfileRepository.incrementDisputedOrders(order.getExecutor().getId());
         }
 
         // Find existing chat room for this order
@@ -109,13 +107,9 @@ public class DisputeServiceImpl implements DisputeService {
                     .chatRoom(chatRoom)
                     .sender(sender)
                     .content(messageText)
-                    .isRead(false)
                     .build();
             systemMessage = messageRepository.save(systemMessage);
 
-            chatRoom.setLastMessageAt(LocalDateTime.now());
-            chatRoomRepository.save(chatRoom);
-
             WsMessage wsMessage = WsMessage.builder()
                     .id(systemMessage.getId())
                     .chatRoomId(chatRoom.getId())
@@ -222,12 +216,8 @@ public class DisputeServiceImpl implements DisputeService {
                     .chatRoom(dispute.getChatRoom())
                     .sender(uploader)
                     .content(messageText)
-                    .isRead(false)
                     .build();
             messageRepository.save(systemMessage);
-
-            dispute.getChatRoom().setLastMessageAt(LocalDateTime.now());
-            chatRoomRepository.save(dispute.getChatRoom());
         }
 
         return mapToEvidenceResponse(evidence, dispute.getOrder());
@@ -318,7 +308,6 @@ public class DisputeServiceImpl implements DisputeService {
                     .chatRoom(dispute.getChatRoom())
                     .sender(admin)
                     .content(messageText)
-                    .isRead(false)
                     .build();
             messageRepository.save(systemMessage);
         }
@@ -371,11 +360,7 @@ public class DisputeServiceImpl implements DisputeService {
 
             // Update executor completed orders
             if (order.getExecutor() != null) {
-                ExecutorProfile profile = executorProfileRepository.findById(order.getExecutor().getId()).orElse(null);
-                if (profile != null) {
-                    profile.setCompletedOrders(profile.getCompletedOrders() + 1);
-                    executorProfileRepository.save(profile);
-                }
+                executorProfileRepository.incrementCompletedOrders(order.getExecutor().getId(), null);
             }
         }
         orderRepository.save(order);
@@ -393,7 +378,6 @@ public class DisputeServiceImpl implements DisputeService {
                     .chatRoom(dispute.getChatRoom())
                     .sender(admin)
                     .content(messageText)
-                    .isRead(false)
                     .build();
             messageRepository.save(systemMessage);
         }
@@ -446,15 +430,16 @@ public class DisputeServiceImpl implements DisputeService {
                     .content(List.of())
                     .page(0)
                     .size(pageable.getPageSize())
-                    .totalElements(0)
+                    .totalElements(0L)
                     .totalPages(0)
                     .first(true)
                     .last(true)
                     .build();
         }
 
-        Page<Message> page = messageRepository.findByChatRoomIdOrderByCreatedAtDesc(
-                dispute.getChatRoom().getId(), pageable);
+        Long chatRoomId = dispute.getChatRoom().getId();
+        Slice<Message> page = messageRepository.findByChatRoomIdOrderByCreatedAtDesc(chatRoomId, pageable);
+        List<ChatReadState> readStates = chatReadStateRepository.findByChatRoomId(chatRoomId);
 
         List<MessageResponse> content = page.getContent().stream()
                 .map(m -> MessageResponse.builder()
@@ -465,13 +450,13 @@ public class DisputeServiceImpl implements DisputeService {
                         .senderAvatarUrl(m.getSender().getAvatarUrl())
                         .content(m.getContent())
                         .attachments(m.getAttachments())
-                        .isRead(m.getIsRead())
+                        .isRead(ChatReadState.isRead(readStates, m.getId(), m.getSender().getId()))
                         .isMine(false) // admin view
                         .createdAt(m.getCreatedAt())
                         .build())
                 .collect(Collectors.toList());
 
-        return PageResponse.of(page, content);
+        return PageResponse.of(page, content, () -> messageRepository.countByChatRoomId(chatRoomId));
     }
 
     // ==================== Helpers ====================
@@ -0,0 +1,100 @@
+package kg.freelance.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kg.freelance.dto.response.ExecutorPageResponse;
+import kg.freelance.service.ExecutorPageCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Service
+public class ExecutorPageCacheImpl implements ExecutorPageCache {
+
+    private final Map<Long, CachedPage> pages = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public ExecutorPageCacheImpl(ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.executors.page-cache.ttl-seconds:60}") long ttlSeconds,
+                                 @Value("${app.executors.page-cache.max-entries:2000}") int maxEntries) {
+        this(objectMapper, meterRegistry, Clock.systemUTC(), ttlSeconds, maxEntries);
+    }
+
+    ExecutorPageCacheImpl(ObjectMapper objectMapper, MeterRegistry meterRegistry, Clock clock,
+                          long ttlSeconds, int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+        this.hits = meterRegistry.counter("executors.page.cache", "result", "hit");
+        this.misses = meterRegistry.counter("executors.page.cache", "result", "miss");
+    }
+
+    @Override
+    public ExecutorPage get(Long executorId, Supplier<ExecutorPageResponse> loader) {
+        long now = clock.millis();
+
+        CachedPage cached = pages.get(executorId);
+        if (cached != null && cached.expiresAt() > now) {
+            hits.increment();
+            return cached.page();
+        }
+
+        misses.increment();
+        ExecutorPageResponse response = loader.get();
+        // Hashing the JSON gives every instance the same ETag for the same content
+        ExecutorPage page = new ExecutorPage(response, "\"" + DigestUtils.md5DigestAsHex(toJson(response)) + "\"");
+
+        if (cached == null && pages.size() >= maxEntries) {
+            pages.values().removeIf(entry -> entry.expiresAt() <= now);
+        }
+        // Stats change on order completion without an eviction, the TTL bounds how stale they get
+        if (cached != null || pages.size() < maxEntries) {
+            pages.put(executorId, new CachedPage(page, now + ttlMillis));
+        }
+        return page;
+    }
+
+    @Override
+    public void evict(Long executorId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Evicting before commit would let a concurrent reader cache the old page again
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pages.remove(executorId);
+                }
+            });
+        } else {
+            pages.remove(executorId);
+        }
+    }
+
+    private byte[] toJson(ExecutorPageResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize executor page", e);
+        }
+    }
+
+    private record CachedPage(ExecutorPage page, long expiresAt) {
+    }
+}
@@ -1,9 +1,11 @@
 package kg.freelance.service.impl;
 
 import kg.freelance.dto.request.ExecutorProfileRequest;
+import kg.freelance.dto.request.SliceRequest;
 import kg.freelance.dto.response.*;
 import kg.freelance.entity.Category;
 import kg.freelance.entity.ExecutorProfile;
+import kg.freelance.entity.Portfolio;
 import kg.freelance.entity.Review;
 import kg.freelance.entity.User;
 import kg.freelance.exception.ResourceNotFoundException;
@@ -13,12 +15,20 @@ import kg.freelance.repository.PortfolioRepository;
 import kg.freelance.repository.ReviewRepository;
 import kg.freelance.repository.UserRepository;
 import kg.freelance.entity.enums.ReputationLevel;
+import kg.freelance.service.ExecutorPageCache;
 import kg.freelance.service.ExecutorService;
+import kg.freelance.service.OrderFeedNotifier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -29,13 +39,19 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class ExecutorServiceImpl implements ExecutorService {
 
+    private static final int PAGE_REVIEWS = 10;
+
     private final ExecutorProfileRepository executorProfileRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final ReviewRepository reviewRepository;
     private final PortfolioRepository portfolioRepository;
+    private final OrderFeedNotifier orderFeedNotifier;
+    private final ExecutorPageCache executorPageCache;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional(readOnly = true)
@@ -46,13 +62,27 @@ public class ExecutorServiceImpl implements ExecutorService {
             String search,
             Pageable pageable) {
 
-        Page<ExecutorProfile> page = executorProfileRepository.findExecutors(
-                categoryId,
-                minRating,
-                availableOnly != null && availableOnly,
-                search,
-                pageable
-        );
+        boolean available = availableOnly != null && availableOnly;
+        Page<ExecutorProfile> page;
+        if (search != null && !search.isBlank()) {
+            // Ranked by match quality, the requested sort does not apply to search results
+            page = executorProfileRepository.searchExecutors(
+                    categoryId, minRating, available, search.trim(), SliceRequest.withSort(pageable, Sort.unsorted()));
+        } else if (categoryId != null && pageable.getSort().getOrderFor(SORT_RANK) != null) {
+            // Served by the (category_id, rank_score) index, the order is part of the query
+            page = executorProfileRepository.findExecutorsInCategoryByRank(
+                    categoryId, minRating, available, SliceRequest.withSort(pageable, Sort.unsorted()));
+        } else if (categoryId != null) {
+            page = executorProfileRepository.findExecutorsInCategory(categoryId, minRating, available, pageable);
+        } else {
+            page = executorProfileRepository.findExecutors(minRating, available, pageable);
+        }
+
+        // The page query only selects profiles, users and categories of all rows come in one more query
+        if (page.hasContent()) {
+            executorProfileRepository.findWithUserAndCategoriesByIdIn(
+                    page.getContent().stream().map(ExecutorProfile::getId).toList());
+        }
 
         List<ExecutorListResponse> content = page.getContent().stream()
                 .map(this::mapToListResponse)
@@ -64,7 +94,7 @@ public class ExecutorServiceImpl implements ExecutorService {
     @Override
     @Transactional(readOnly = true)
     public ExecutorResponse getExecutorById(Long id) {
-        ExecutorProfile profile = executorProfileRepository.findById(id)
+        ExecutorProfile profile = executorProfileRepository.findWithUserAndCategoriesById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Executor", "id", id));
 
         return mapToResponse(profile);
@@ -86,7 +116,9 @@ public class ExecutorServiceImpl implements ExecutorService {
                     newProfile.setAvgCompletionDays(0.0);
                     newProfile.setRating(BigDecimal.ZERO);
                     newProfile.setReviewCount(0);
+                    newProfile.setRatingSum(0L);
                     newProfile.setAvailableForWork(true);
+                    newProfile.setLastActiveAt(LocalDateTime.now());
                     return newProfile;
                 });
 
@@ -99,13 +131,17 @@ public class ExecutorServiceImpl implements ExecutorService {
         if (request.getAvailableForWork() != null) {
             profile.setAvailableForWork(request.getAvailableForWork());
         }
+        if (request.getNotifyNewOrders() != null) {
+            profile.setNotifyNewOrders(request.getNotifyNewOrders());
+        }
         if (request.getCategoryIds() != null && !request.getCategoryIds().isEmpty()) {
             Set<Category> categories = new HashSet<>(categoryRepository.findAllById(request.getCategoryIds()));
             profile.setCategories(categories);
+            orderFeedNotifier.updateCategories(userId, categoryIds(categories));
         }
 
-        profile.setLastActiveAt(LocalDateTime.now());
         profile = executorProfileRepository.save(profile);
+        executorPageCache.evict(userId);
 
         return mapToResponse(profile);
     }
@@ -119,6 +155,8 @@ public class ExecutorServiceImpl implements ExecutorService {
         Set<Category> categories = new HashSet<>(categoryRepository.findAllById(categoryIds));
         profile.setCategories(categories);
         profile = executorProfileRepository.save(profile);
+        orderFeedNotifier.updateCategories(userId, categoryIds(categories));
+        executorPageCache.evict(userId);
 
         return mapToResponse(profile);
     }
@@ -130,8 +168,8 @@ public class ExecutorServiceImpl implements ExecutorService {
                 .orElseThrow(() -> new ResourceNotFoundException("Executor profile", "userId", userId));
 
         profile.setAvailableForWork(available);
-        profile.setLastActiveAt(LocalDateTime.now());
         executorProfileRepository.save(profile);
+        executorPageCache.evict(userId);
     }
 
     @Override
@@ -141,13 +179,13 @@ public class ExecutorServiceImpl implements ExecutorService {
             throw new ResourceNotFoundException("Executor", "id", executorId);
         }
 
-        Page<Review> page = reviewRepository.findByExecutorIdAndIsVisibleTrueOrderByCreatedAtDesc(executorId, pageable);
+        Slice<Review> page = reviewRepository.findByExecutorIdAndIsVisibleTrueOrderByCreatedAtDesc(executorId, pageable);
 
         List<ReviewResponse> content = page.getContent().stream()
                 .map(this::mapReviewToResponse)
                 .collect(Collectors.toList());
 
-        return PageResponse.of(page, content);
+        return PageResponse.of(page, content, () -> reviewRepository.countByExecutorId(executorId));
     }
 
     @Override
@@ -157,19 +195,29 @@ public class ExecutorServiceImpl implements ExecutorService {
             throw new ResourceNotFoundException("Executor", "id", executorId);
         }
 
-        return portfolioRepository.findByExecutorIdOrderBySortOrder(executorId).stream()
-                .map(portfolio -> PortfolioResponse.builder()
-                        .id(portfolio.getId())
-                        .title(portfolio.getTitle())
-                        .description(portfolio.getDescription())
-                        .categoryId(portfolio.getCategory() != null ? portfolio.getCategory().getId() : null)
-                        .categoryName(portfolio.getCategory() != null ? portfolio.getCategory().getName() : null)
-                        .images(portfolio.getImages())
-                        .externalLink(portfolio.getExternalLink())
-                        .sortOrder(portfolio.getSortOrder())
-                        .createdAt(portfolio.getCreatedAt())
-                        .build())
-                .collect(Collectors.toList());
+        return mapPortfolio(portfolioRepository.findByExecutorIdOrderBySortOrder(executorId));
+    }
+
+    @Override
+    public ExecutorPageCache.ExecutorPage getExecutorPage(Long executorId) {
+        // The transaction is opened only on a miss, a cache hit never takes a connection
+        return executorPageCache.get(executorId, () -> transactionTemplate.execute(status -> {
+            ExecutorProfile profile = executorProfileRepository.findWithUserAndCategoriesById(executorId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Executor", "id", executorId));
+
+            Slice<Review> reviews = reviewRepository.findByExecutorIdAndIsVisibleTrueOrderByCreatedAtDesc(
+                    executorId, PageRequest.of(0, PAGE_REVIEWS));
+            List<ReviewResponse> reviewContent = reviews.getContent().stream()
+                    .map(this::mapReviewToResponse)
+                    .toList();
+
+            return ExecutorPageResponse.builder()
+                    .profile(mapToResponse(profile))
+                    // review_count is kept equal to the number of visible reviews
+                    .reviews(PageResponse.of(reviews, reviewContent, () -> profile.getReviewCount()))
+                    .portfolio(mapPortfolio(portfolioRepository.findByExecutorIdOrderBySortOrder(executorId)))
+                    .build();
+        }));
     }
 
     @Override
@@ -177,6 +225,15 @@ public class ExecutorServiceImpl implements ExecutorService {
         return executorProfileRepository.existsById(userId);
     }
 
+    @Override
+    @Scheduled(cron = "${app.executors.rank-refresh-cron:0 15 4 * * *}")
+    @Transactional
+    public int refreshRankScores() {
+        int updated = executorProfileRepository.refreshRankScores();
+        log.info("Refreshed rank score of {} executor profiles", updated);
+        return updated;
+    }
+
     private ExecutorListResponse mapToListResponse(ExecutorProfile profile) {
         User user = profile.getUser();
         List<CategoryResponse> categories = profile.getCategories().stream()
@@ -205,6 +262,10 @@ public class ExecutorServiceImpl implements ExecutorService {
                 .build();
     }
 
+    private static Set<Long> categoryIds(Set<Category> categories) {
+        return categories.stream().map(Category::getId).collect(Collectors.toSet());
+    }
+
     private ExecutorResponse mapToResponse(ExecutorProfile profile) {
         User user = profile.getUser();
         List<CategoryResponse> categories = profile.getCategories().stream()
@@ -230,6 +291,7 @@ public class ExecutorServiceImpl implements ExecutorService {
                 .rating(profile.getRating())
                 .reviewCount(profile.getReviewCount())
                 .availableForWork(profile.getAvailableForWork())
+                .notifyNewOrders(profile.getNotifyNewOrders())
                 .lastActiveAt(profile.getLastActiveAt())
                 .memberSince(user.getCreatedAt())
                 .categories(categories)
@@ -238,6 +300,22 @@ public class ExecutorServiceImpl implements ExecutorService {
                 .build();
     }
 
+    private List<PortfolioResponse> mapPortfolio(List<Portfolio> items) {
+        return items.stream()
+                .map(portfolio -> PortfolioResponse.builder()
+                        .id(portfolio.getId())
+                        .title(portfolio.getTitle())
+                        .description(portfolio.getDescription())
+                        .categoryId(portfolio.getCategory() != null ? portfolio.getCategory().getId() : null)
+                        .categoryName(portfolio.getCategory() != null ? portfolio.getCategory().getName() : null)
+                        .images(portfolio.getImages())
+                        .externalLink(portfolio.getExternalLink())
+                        .sortOrder(portfolio.getSortOrder())
+                        .createdAt(portfolio.getCreatedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     private ReviewResponse mapReviewToResponse(Review review) {
         return ReviewResponse.builder()
                 .id(review.getId())
@@ -11,8 +11,8 @@ import kg.freelance.repository.NotificationRepository;
 import kg.freelance.service.InAppNotificationService;
 import kg.freelance.service.PushNotificationService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +33,13 @@ public class InAppNotificationServiceImpl implements InAppNotificationService {
     @Override
     @Transactional
     public void send(User recipient, NotificationType type, String title, String message, Order order, String link) {
+        sendInApp(recipient, type, title, message, order, link);
+        pushNotificationService.sendPush(recipient, title, message, pushData(type, order, link));
+    }
+
+    @Override
+    @Transactional
+    public void sendInApp(User recipient, NotificationType type, String title, String message, Order order, String link) {
         Notification notification = Notification.builder()
                 .recipient(recipient)
                 .type(type)
@@ -50,27 +57,16 @@ public class InAppNotificationServiceImpl implements InAppNotificationService {
                 "/queue/notifications",
                 response
         );
-
-        // Send FCM push notification
-        Map<String, String> pushData = new HashMap<>();
-        pushData.put("type", type.name());
-        if (order != null) {
-            pushData.put("orderId", order.getId().toString());
-        }
-        if (link != null) {
-            pushData.put("link", link);
-        }
-        pushNotificationService.sendPush(recipient, title, message, pushData);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PageResponse<NotificationResponse> getNotifications(Long userId, Pageable pageable) {
-        Page<Notification> page = notificationRepository.findByRecipientIdOrderByCreatedAtDesc(userId, pageable);
+        Slice<Notification> page = notificationRepository.findByRecipientIdOrderByCreatedAtDesc(userId, pageable);
         List<NotificationResponse> content = page.getContent().stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
-        return PageResponse.of(page, content);
+        return PageResponse.of(page, content, () -> notificationRepository.countByRecipientId(userId));
     }
 
     @Override
@@ -97,6 +93,18 @@ public class InAppNotificationServiceImpl implements InAppNotificationService {
         notificationRepository.markAllAsReadByRecipientId(userId);
     }
 
+    private static Map<String, String> pushData(NotificationType type, Order order, String link) {
+        Map<String, String> data = new HashMap<>();
+        data.put("type", type.name());
+        if (order != null) {
+            data.put("orderId", order.getId().toString());
+        }
+        if (link != null) {
+            data.put("link", link);
+        }
+        return data;
+    }
+
     private NotificationResponse mapToResponse(Notification notification) {
         return NotificationResponse.builder()
                 .id(notification.getId())
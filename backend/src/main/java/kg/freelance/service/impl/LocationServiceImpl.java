@@ -0,0 +1,35 @@
+package kg.freelance.service.impl;
+
+import kg.freelance.dto.response.LocationResponse;
+import kg.freelance.entity.Location;
+import kg.freelance.repository.LocationRepository;
+import kg.freelance.service.LocationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class LocationServiceImpl implements LocationService {
+
+    private final LocationRepository locationRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LocationResponse> getActiveLocations() {
+        return locationRepository.findByActiveTrueOrderBySortOrder().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    private LocationResponse mapToResponse(Location location) {
+        return LocationResponse.builder()
+                .id(location.getId())
+                .name(location.getName())
+                .slug(location.getSlug())
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package kg.freelance.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kg.freelance.dto.request.SliceRequest;
+import kg.freelance.repository.projection.OrderListView;
+import kg.freelance.service.OrderFeedCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Service
+public class OrderFeedCacheImpl implements OrderFeedCache {
+
+    private final Map<FeedKey, CachedPage> pages = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final int maxPages;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public OrderFeedCacheImpl(MeterRegistry meterRegistry,
+                              @Value("${app.orders.feed-cache.pages:3}") int maxPages,
+                              @Value("${app.orders.feed-cache.ttl-seconds:30}") long ttlSeconds,
+                              @Value("${app.orders.feed-cache.max-entries:256}") int maxEntries) {
+        this(meterRegistry, Clock.systemUTC(), maxPages, ttlSeconds, maxEntries);
+    }
+
+    OrderFeedCacheImpl(MeterRegistry meterRegistry, Clock clock, int maxPages, long ttlSeconds, int maxEntries) {
+        this.clock = clock;
+        this.maxPages = maxPages;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+        this.hits = meterRegistry.counter("orders.feed.cache", "result", "hit");
+        this.misses = meterRegistry.counter("orders.feed.cache", "result", "miss");
+    }
+
+    @Override
+    public boolean isCacheable(Long categoryId, BigDecimal budgetMin, BigDecimal budgetMax,
+                               String search, String location, Long locationId, Pageable pageable) {
+        return budgetMin == null && budgetMax == null
+                && search == null && location == null && locationId == null
+                && pageable.getPageNumber() < maxPages;
+    }
+
+    @Override
+    public Slice<OrderListView> get(Long categoryId, Pageable pageable, Supplier<Slice<OrderListView>> loader) {
+        FeedKey key = new FeedKey(categoryId, pageable.getSort(), pageable.getPageNumber(),
+                pageable.getPageSize(), SliceRequest.isTotalRequested(pageable));
+        long now = clock.millis();
+
+        CachedPage cached = pages.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            hits.increment();
+            return cached.page();
+        }
+
+        misses.increment();
+        Slice<OrderListView> page = loader.get();
+        // Deadlines expire without any write, the TTL bounds how long an overdue order stays listed
+        if (cached != null || pages.size() < maxEntries) {
+            pages.put(key, new CachedPage(page, now + ttlMillis));
+        }
+        return page;
+    }
+
+    @Override
+    public void evictCategory(Long categoryId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Evicting before commit would let a concurrent reader cache the old rows again
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(categoryId);
+                }
+            });
+        } else {
+            evictNow(categoryId);
+        }
+    }
+
+    private void evictNow(Long categoryId) {
+        // The unfiltered feed lists every category
+        pages.keySet().removeIf(key -> key.categoryId() == null || Objects.equals(key.categoryId(), categoryId));
+    }
+
+    private record FeedKey(Long categoryId, Sort sort, int page, int size, boolean withTotal) {
+    }
+
+    private record CachedPage(Slice<OrderListView> page, long expiresAt) {
+    }
+}
@@ -0,0 +1,300 @@
+package kg.freelance.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kg.freelance.entity.Order;
+import kg.freelance.entity.User;
+import kg.freelance.repository.ExecutorProfileRepository;
+import kg.freelance.repository.UserRepository;
+import kg.freelance.repository.projection.ExecutorCategoryView;
+import kg.freelance.service.OrderFeedNotifier;
+import kg.freelance.service.PushNotificationService;
+import kg.freelance.websocket.dto.OrderFeedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Service
+public class OrderFeedNotifierImpl implements OrderFeedNotifier {
+
+    private static final String DESTINATION = "/queue/order-feed";
+    private static final long RATE_WINDOW_MILLIS = 60_000;
+
+    private final ExecutorProfileRepository executorProfileRepository;
+    private final UserRepository userRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final PushNotificationService pushNotificationService;
+    private final Clock clock;
+    private final int maxItems;
+    private final int maxPushesPerMinute;
+
+    private final Queue<PublishedOrder> pending = new ConcurrentLinkedQueue<>();
+    // Connected users: userId -> STOMP principal name, and the category index of the executors among them
+    private final Map<Long, String> onlineUsers = new ConcurrentHashMap<>();
+    // Open STOMP session ids per user, a user stays indexed until the last one closes
+    private final Map<Long, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> categoriesByExecutor = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> executorsByCategory = new ConcurrentHashMap<>();
+    // Only touched by flush(), which the scheduler never runs concurrently
+    private final Map<Long, RateWindow> rateWindows = new HashMap<>();
+
+    private final Counter wsPushes;
+    private final Counter fcmPushes;
+    private final Counter throttled;
+
+    @Autowired
+    public OrderFeedNotifierImpl(ExecutorProfileRepository executorProfileRepository,
+                                 UserRepository userRepository,
+                                 SimpMessagingTemplate messagingTemplate,
+                                 PushNotificationService pushNotificationService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.orders.feed-push.max-items:10}") int maxItems,
+                                 @Value("${app.orders.feed-push.max-per-minute:6}") int maxPushesPerMinute) {
+        this(executorProfileRepository, userRepository, messagingTemplate, pushNotificationService,
+                meterRegistry, Clock.systemUTC(), maxItems, maxPushesPerMinute);
+    }
+
+    OrderFeedNotifierImpl(ExecutorProfileRepository executorProfileRepository,
+                          UserRepository userRepository,
+                          SimpMessagingTemplate messagingTemplate,
+                          PushNotificationService pushNotificationService,
+                          MeterRegistry meterRegistry,
+                          Clock clock,
+                          int maxItems,
+                          int maxPushesPerMinute) {
+        this.executorProfileRepository = executorProfileRepository;
+        this.userRepository = userRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.pushNotificationService = pushNotificationService;
+        this.clock = clock;
+        this.maxItems = maxItems;
+        this.maxPushesPerMinute = maxPushesPerMinute;
+        this.wsPushes = meterRegistry.counter("orders.feed.push", "channel", "websocket");
+        this.fcmPushes = meterRegistry.counter("orders.feed.push", "channel", "fcm");
+        this.throttled = meterRegistry.counter("orders.feed.push.throttled");
+        Gauge.builder("orders.feed.push.online", categoriesByExecutor, Map::size)
+                .description("Online executors indexed for new-order pushes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void orderPublished(Order order) {
+        // Built inside the transaction, the category is still attached here
+        PublishedOrder published = new PublishedOrder(order.getClient().getId(), OrderFeedEvent.Item.builder()
+                .id(order.getId())
+                .title(order.getTitle())
+                .categoryId(order.getCategory().getId())
+                .categoryName(order.getCategory().getName())
+                .budgetMin(order.getBudgetMin())
+                .budgetMax(order.getBudgetMax())
+                .location(order.getLocation())
+                .createdAt(order.getCreatedAt())
+                .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.add(published);
+                }
+            });
+        } else {
+            pending.add(published);
+        }
+    }
+
+    @Override
+    public void userConnected(Long userId, String username, String sessionId) {
+        // Look up outside compute() so the per-user lock usually never waits on the database
+        List<Long> preloaded = sessionsByUser.containsKey(userId)
+                ? null
+                : executorProfileRepository.findCategoryIds(userId);
+        sessionsByUser.compute(userId, (id, sessions) -> {
+            onlineUsers.put(userId, username);
+            if (sessions == null) {
+                // The last session closed between the check and here, the lookup has to happen now
+                List<Long> categoryIds = preloaded != null
+                        ? preloaded
+                        : executorProfileRepository.findCategoryIds(userId);
+                if (!categoryIds.isEmpty()) {
+                    index(userId, categoryIds);
+                }
+                sessions = ConcurrentHashMap.newKeySet();
+            }
+            sessions.add(sessionId);
+            return sessions;
+        });
+    }
+
+    @Override
+    public void userDisconnected(Long userId, String sessionId) {
+        sessionsByUser.computeIfPresent(userId, (id, sessions) -> {
+            // A repeated disconnect event for a session already removed changes nothing
+            if (!sessions.remove(sessionId) || !sessions.isEmpty()) {
+                return sessions;
+            }
+            onlineUsers.remove(userId);
+            unindex(userId);
+            return null;
+        });
+    }
+
+    @Override
+    public void updateCategories(Long userId, Collection<Long> categoryIds) {
+        if (!onlineUsers.containsKey(userId)) {
+            return;
+        }
+        unindex(userId);
+        index(userId, categoryIds);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.orders.feed-push.interval-ms:2000}")
+    public int flush() {
+        List<PublishedOrder> batch = new ArrayList<>();
+        PublishedOrder next;
+        while ((next = pending.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        long now = clock.millis();
+        rateWindows.values().removeIf(window -> window.isExpired(now));
+
+        Map<Long, List<PublishedOrder>> online = new HashMap<>();
+        Set<Long> categoryIds = new HashSet<>();
+        for (PublishedOrder order : batch) {
+            Long categoryId = order.item().getCategoryId();
+            categoryIds.add(categoryId);
+            for (Long executorId : executorsByCategory.getOrDefault(categoryId, Set.of())) {
+                online.computeIfAbsent(executorId, id -> new ArrayList<>()).add(order);
+            }
+        }
+
+        int notified = 0;
+        for (Map.Entry<Long, List<PublishedOrder>> entry : online.entrySet()) {
+            String username = onlineUsers.get(entry.getKey());
+            List<OrderFeedEvent.Item> items = itemsFor(entry.getKey(), entry.getValue());
+            if (username == null || items.isEmpty() || !tryAcquire(entry.getKey(), now)) {
+                continue;
+            }
+            messagingTemplate.convertAndSendToUser(username, DESTINATION, OrderFeedEvent.builder()
+                    .orders(items.size() > maxItems ? items.subList(0, maxItems) : items)
+                    .more(items.size() > maxItems)
+                    .build());
+            wsPushes.increment();
+            notified++;
+        }
+
+        return notified + pushToOffline(batch, categoryIds, now);
+    }
+
+    private int pushToOffline(List<PublishedOrder> batch, Set<Long> categoryIds, long now) {
+        Map<Long, List<PublishedOrder>> offline = new HashMap<>();
+        for (ExecutorCategoryView subscriber : executorProfileRepository.findNewOrderPushSubscribers(categoryIds)) {
+            if (onlineUsers.containsKey(subscriber.getUserId())) {
+                continue;
+            }
+            for (PublishedOrder order : batch) {
+                if (order.item().getCategoryId().equals(subscriber.getCategoryId())) {
+                    offline.computeIfAbsent(subscriber.getUserId(), id -> new ArrayList<>()).add(order);
+                }
+            }
+        }
+        if (offline.isEmpty()) {
+            return 0;
+        }
+
+        int notified = 0;
+        for (User executor : userRepository.findAllById(offline.keySet())) {
+            List<OrderFeedEvent.Item> items = itemsFor(executor.getId(), offline.get(executor.getId()));
+            if (items.isEmpty() || !tryAcquire(executor.getId(), now)) {
+                continue;
+            }
+
+            Map<String, String> data = new HashMap<>();
+            data.put("type", "NEW_ORDERS");
+            String body;
+            if (items.size() == 1) {
+                data.put("orderId", items.get(0).getId().toString());
+                body = items.get(0).getTitle();
+            } else {
+                body = items.size() + " новых заказов в ваших категориях";
+            }
+            pushNotificationService.sendPush(executor, "Новые заказы", body, data);
+            fcmPushes.increment();
+            notified++;
+        }
+        return notified;
+    }
+
+    // An executor who is also a client must not be told about their own order
+    private List<OrderFeedEvent.Item> itemsFor(Long executorId, List<PublishedOrder> orders) {
+        return orders.stream()
+                .filter(order -> !order.clientId().equals(executorId))
+                .map(PublishedOrder::item)
+                .toList();
+    }
+
+    private boolean tryAcquire(Long executorId, long now) {
+        RateWindow window = rateWindows.get(executorId);
+        if (window == null || window.isExpired(now)) {
+            rateWindows.put(executorId, new RateWindow(now, 1));
+            return true;
+        }
+        if (window.count() >= maxPushesPerMinute) {
+            throttled.increment();
+            return false;
+        }
+        rateWindows.put(executorId, new RateWindow(window.startedAt(), window.count() + 1));
+        return true;
+    }
+
+    private void index(Long userId, Collection<Long> categoryIds) {
+        Set<Long> categories = Set.copyOf(categoryIds);
+        categoriesByExecutor.put(userId, categories);
+        for (Long categoryId : categories) {
+            // compute() keeps this atomic with the removal of emptied sets in unindex()
+            executorsByCategory.compute(categoryId, (id, executors) -> {
+                Set<Long> result = executors != null ? executors : ConcurrentHashMap.<Long>newKeySet();
+                result.add(userId);
+                return result;
+            });
+        }
+    }
+
+    private void unindex(Long userId) {
+        Set<Long> categories = categoriesByExecutor.remove(userId);
+        if (categories == null) {
+            return;
+        }
+        for (Long categoryId : categories) {
+            executorsByCategory.computeIfPresent(categoryId, (id, executors) -> {
+                executors.remove(userId);
+                return executors.isEmpty() ? null : executors;
+            });
+        }
+    }
+
+    private record PublishedOrder(Long clientId, OrderFeedEvent.Item item) {
+    }
+
+    private record RateWindow(long startedAt, int count) {
+
+        boolean isExpired(long now) {
+            return now - startedAt >= RATE_WINDOW_MILLIS;
+        }
+    }
+}
@@ -8,77 +8,153 @@ import kg.freelance.exception.BadRequestException;
 import kg.freelance.exception.ForbiddenException;
 import kg.freelance.exception.ResourceNotFoundException;
 import kg.freelance.repository.*;
+import kg.freelance.repository.projection.ExecutorOrderListView;
+import kg.freelance.repository.projection.OrderListView;
 import kg.freelance.dto.request.OpenDisputeRequest;
+import kg.freelance.service.ChatMembershipCache;
 import kg.freelance.service.ChatService;
 import kg.freelance.service.DisputeService;
-import kg.freelance.service.EmailService;
-import kg.freelance.service.ExecutorVerificationService;
-import kg.freelance.service.InAppNotificationService;
+import kg.freelance.service.OrderFeedCache;
+import kg.freelance.service.OrderFeedNotifier;
 import kg.freelance.service.OrderService;
-import kg.freelance.service.SubscriptionService;
+import kg.freelance.service.OrderViewCounter;
+import kg.freelance.service.OutboxService;
+import kg.freelance.service.ViewerContext;
 import kg.freelance.entity.enums.NotificationType;
 import kg.freelance.websocket.dto.WsMessage;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
+    private static final int MAX_FEED_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final OrderResponseRepository orderResponseRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
+    private final LocationRepository locationRepository;
     private final ExecutorProfileRepository executorProfileRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatMembershipCache chatMembershipCache;
     private final MessageRepository messageRepository;
-    private final ExecutorVerificationService executorVerificationService;
-    private final EmailService emailService;
     private final ChatService chatService;
-    private final SubscriptionService subscriptionService;
+    private final ViewerContext viewerContext;
     private final DisputeService disputeService;
-    private final InAppNotificationService inAppNotificationService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final OrderViewCounter orderViewCounter;
+    private final OrderFeedCache orderFeedCache;
+    private final OrderFeedNotifier orderFeedNotifier;
+    private final OutboxService outboxService;
 
     @Override
     @Transactional(readOnly = true)
     public PageResponse<OrderListResponse> getPublicOrders(
             Long categoryId, BigDecimal budgetMin, BigDecimal budgetMax,
-            String search, String location, Long userId, Pageable pageable) {
+            String search, String location, Long locationId, Long userId, Pageable pageable) {
+
+        LongSupplier total = () -> orderRepository.countPublicOrders(
+                categoryId, budgetMin, budgetMax, search, location, locationId);
+
+        Slice<OrderListView> page;
+        if (orderFeedCache.isCacheable(categoryId, budgetMin, budgetMax, search, location, locationId, pageable)) {
+            // Cache the page with its totals resolved so a hit never reaches the database
+            page = orderFeedCache.get(categoryId, pageable, () -> {
+                Slice<OrderListView> slice = findPublicOrders(categoryId, null, null, null, null, null, pageable);
+                return SliceRequest.isTotalRequested(pageable)
+                        ? PageableExecutionUtils.getPage(slice.getContent(), pageable, total)
+                        : slice;
+            });
+        } else {
+            page = findPublicOrders(categoryId, budgetMin, budgetMax, search, location, locationId, pageable);
+        }
 
-        Page<Order> page = orderRepository.findPublicOrders(categoryId, budgetMin, budgetMax, search, location, pageable);
+        List<OrderListResponse> content = mapToListResponsesWithUserContext(page.getContent(), userId);
 
-        List<OrderListResponse> content = page.getContent().stream()
-                .map(order -> mapToListResponseWithUserContext(order, userId))
-                .collect(Collectors.toList());
+        return PageResponse.of(page, content, total);
+    }
+
+    private Slice<OrderListView> findPublicOrders(
+            Long categoryId, BigDecimal budgetMin, BigDecimal budgetMax,
+            String search, String location, Long locationId, Pageable pageable) {
 
-        return PageResponse.of(page, content);
+        if (pageable.getSort().getOrderFor(SORT_RELEVANCE) == null) {
+            return orderRepository.findPublicOrders(categoryId, budgetMin, budgetMax, search, location, locationId, pageable);
+        }
+        if (search != null && !search.isBlank()) {
+            // Ranking is part of the query itself, so the pseudo-property must not reach Spring Data's ORDER BY
+            Pageable unsorted = SliceRequest.withSort(pageable, Sort.unsorted());
+            return orderRepository.findPublicOrdersByRelevance(categoryId, budgetMin, budgetMax, search, location, locationId, unsorted);
+        }
+        // Nothing to rank against without a search term, fall back to newest first
+        Pageable newest = SliceRequest.withSort(pageable, Sort.by(Sort.Direction.DESC, "created_at"));
+        return orderRepository.findPublicOrders(categoryId, budgetMin, budgetMax, search, location, locationId, newest);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
+    public CursorPageResponse<OrderListResponse> getPublicOrdersFeed(
+            Long categoryId, BigDecimal budgetMin, BigDecimal budgetMax,
+            String search, String location, Long locationId, Long userId, String cursor, int requestedSize) {
+
+        FeedCursor after = FeedCursor.decode(cursor);
+        int size = Math.max(1, Math.min(requestedSize, MAX_FEED_SIZE));
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        List<OrderListView> orders = orderRepository.findPublicOrdersAfter(
+                categoryId, budgetMin, budgetMax, search, location, locationId,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                size + 1);
+
+        boolean hasNext = orders.size() > size;
+        if (hasNext) {
+            orders = orders.subList(0, size);
+        }
+
+        return CursorPageResponse.<OrderListResponse>builder()
+                .content(mapToListResponsesWithUserContext(orders, userId))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? FeedCursor.of(orders.get(orders.size() - 1)).encode() : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public OrderDetailResponse getOrderById(Long orderId, Long userId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", orderId));
 
-        // Increment view count only for non-owners
+        // Count views only for non-owners; the counter is flushed to the row in the background
         boolean isOwner = userId != null && userId.equals(order.getClient().getId());
         boolean isExecutor = userId != null && order.getExecutor() != null && userId.equals(order.getExecutor().getId());
         if (!isOwner && !isExecutor) {
-            orderRepository.incrementViewCount(orderId);
+            orderViewCounter.recordView(orderId);
         }
 
-        return mapToDetailResponse(order, userId);
+        OrderDetailResponse response = mapToDetailResponse(order, userId);
+        response.setViewCount(order.getViewCount() + (int) orderViewCounter.getPendingViews(orderId));
+        return response;
     }
 
     @Override
@@ -90,6 +166,8 @@ public class OrderServiceImpl implements OrderService {
         Category category = categoryRepository.findById(request.getCategoryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category", "id", request.getCategoryId()));
 
+        Location location = resolveLocation(request.getLocationId(), request.getLocation());
+
         Order order = Order.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
@@ -98,7 +176,8 @@ public class OrderServiceImpl implements OrderService {
                 .budgetMin(request.getBudgetMin())
                 .budgetMax(request.getBudgetMax())
                 .deadline(request.getDeadline())
-                .location(request.getLocation())
+                .location(location != null ? location.getName() : request.getLocation())
+                .locationId(location != null ? location.getId() : null)
                 .isPublic(request.getIsPublic() != null ? request.getIsPublic() : true)
                 .attachments(request.getAttachments())
                 .status(OrderStatus.NEW)
@@ -107,6 +186,10 @@ public class OrderServiceImpl implements OrderService {
                 .build();
 
         order = orderRepository.save(order);
+        if (order.getIsPublic()) {
+            orderFeedCache.evictCategory(category.getId());
+            orderFeedNotifier.orderPublished(order);
+        }
         return mapToDetailResponse(order, clientId);
     }
 
@@ -119,6 +202,9 @@ public class OrderServiceImpl implements OrderService {
             throw new BadRequestException("Can only update orders in NEW status");
         }
 
+        Long previousCategoryId = order.getCategory().getId();
+        boolean wasPublic = order.getIsPublic();
+
         if (request.getTitle() != null) order.setTitle(request.getTitle());
         if (request.getDescription() != null) order.setDescription(request.getDescription());
         if (request.getCategoryId() != null) {
@@ -129,10 +215,19 @@ public class OrderServiceImpl implements OrderService {
         if (request.getBudgetMin() != null) order.setBudgetMin(request.getBudgetMin());
         if (request.getBudgetMax() != null) order.setBudgetMax(request.getBudgetMax());
         if (request.getDeadline() != null) order.setDeadline(request.getDeadline());
+        if (request.getLocationId() != null || request.getLocation() != null) {
+            Location location = resolveLocation(request.getLocationId(), request.getLocation());
+            order.setLocation(location != null ? location.getName() : request.getLocation());
+            order.setLocationId(location != null ? location.getId() : null);
+        }
         if (request.getIsPublic() != null) order.setIsPublic(request.getIsPublic());
         if (request.getAttachments() != null) order.setAttachments(request.getAttachments());
 
         order = orderRepository.save(order);
+        if (wasPublic || order.getIsPublic()) {
+            orderFeedCache.evictCategory(previousCategoryId);
+            orderFeedCache.evictCategory(order.getCategory().getId());
+        }
         return mapToDetailResponse(order, clientId);
     }
 
@@ -145,7 +240,11 @@ public class OrderServiceImpl implements OrderService {
             throw new BadRequestException("Can only delete orders in NEW status");
         }
 
+        order.getChatRooms().forEach(room -> chatMembershipCache.evict(room.getId()));
         orderRepository.delete(order);
+        if (order.getIsPublic()) {
+            orderFeedCache.evictCategory(order.getCategory().getId());
+        }
     }
 
     @Override
@@ -177,6 +276,9 @@ public class OrderServiceImpl implements OrderService {
         order.setStatus(OrderStatus.IN_PROGRESS);
         order.setStartedAt(LocalDateTime.now());
         orderRepository.save(order);
+        if (order.getIsPublic()) {
+            orderFeedCache.evictCategory(order.getCategory().getId());
+        }
 
         // Get or create chat room (native INSERT ON CONFLICT to avoid Hibernate session corruption)
         chatRoomRepository.insertIfNotExists(orderId, order.getClient().getId(), executor.getId());
@@ -193,14 +295,9 @@ public class OrderServiceImpl implements OrderService {
                 .chatRoom(chatRoom)
                 .sender(order.getClient())
                 .content(systemMessageText)
-                .isRead(false)
                 .build();
         systemMessage = messageRepository.save(systemMessage);
 
-        // Update chat room last message time
-        chatRoom.setLastMessageAt(LocalDateTime.now());
-        chatRoomRepository.save(chatRoom);
-
         // Send WebSocket notification to executor
         WsMessage wsMessage = WsMessage.builder()
                 .id(systemMessage.getId())
@@ -213,25 +310,14 @@ public class OrderServiceImpl implements OrderService {
                 .type(WsMessage.MessageType.SYSTEM)
                 .build();
 
-        messagingTemplate.convertAndSendToUser(
-                executor.getEmail(),
-                "/queue/messages",
-                wsMessage
-        );
+        outboxService.enqueueWebSocket(executor, "/queue/messages", wsMessage);
 
         // Update executor stats
-        ExecutorProfile profile = executorProfileRepository.findById(executor.getId()).orElse(null);
-        if (profile != null) {
-            profile.setTotalOrders(profile.getTotalOrders() + 1);
-            profile.setLastActiveAt(LocalDateTime.now());
-            executorProfileRepository.save(profile);
-        }
-
-        // Send email notification
-        emailService.sendExecutorSelected(executor, order);
+        executorProfileRepository.incrementTotalOrders(executor.getId());
 
-        // In-app notification to executor
-        inAppNotificationService.send(
+        // Email and in-app notification are delivered after commit by the outbox dispatcher
+        outboxService.enqueueEmail(OutboxService.EmailTemplate.EXECUTOR_SELECTED, executor, order);
+        outboxService.enqueueNotification(
                 executor,
                 NotificationType.EXECUTOR_SELECTED,
                 "Вы выбраны исполнителем",
@@ -266,7 +352,7 @@ public class OrderServiceImpl implements OrderService {
         orderRepository.save(order);
 
         // Send email notification to client
-        emailService.sendWorkSubmittedForReview(order.getClient(), order);
+        outboxService.enqueueEmail(OutboxService.EmailTemplate.WORK_SUBMITTED_FOR_REVIEW, order.getClient(), order);
 
         // Send chat message to client
         try {
@@ -294,27 +380,15 @@ public class OrderServiceImpl implements OrderService {
 
         // Update executor stats
         if (order.getExecutor() != null) {
-            ExecutorProfile profile = executorProfileRepository.findById(order.getExecutor().getId()).orElse(null);
-            if (profile != null) {
-                profile.setCompletedOrders(profile.getCompletedOrders() + 1);
-
-                // Update average completion days
-                if (order.getStartedAt() != null) {
-                    long days = Math.max(1, ChronoUnit.DAYS.between(order.getStartedAt(), order.getCompletedAt()));
-                    int completed = profile.getCompletedOrders();
-                    double oldAvg = profile.getAvgCompletionDays() != null ? profile.getAvgCompletionDays() : 0.0;
-                    double newAvg = ((oldAvg * (completed - 1)) + days) / completed;
-                    profile.setAvgCompletionDays(newAvg);
-                }
-
-                executorProfileRepository.save(profile);
-            }
-
-            // Send email notification to executor
-            emailService.sendWorkApproved(order.getExecutor(), order);
-
-            // In-app notification to executor
-            inAppNotificationService.send(
+            // The average completion time is folded in by the same UPDATE
+            Integer days = order.getStartedAt() != null
+                    ? (int) Math.max(1, ChronoUnit.DAYS.between(order.getStartedAt(), order.getCompletedAt()))
+                    : null;
+            executorProfileRepository.incrementCompletedOrders(order.getExecutor().getId(), days);
+
+            // Email and in-app notification to executor
+            outboxService.enqueueEmail(OutboxService.EmailTemplate.WORK_APPROVED, order.getExecutor(), order);
+            outboxService.enqueueNotification(
                     order.getExecutor(),
                     NotificationType.WORK_APPROVED,
                     "Работа принята",
@@ -352,13 +426,9 @@ public class OrderServiceImpl implements OrderService {
                         .chatRoom(chatRoom)
                         .sender(order.getClient())
                         .content(messageText)
-                        .isRead(false)
                         .build();
                 systemMessage = messageRepository.save(systemMessage);
 
-                chatRoom.setLastMessageAt(LocalDateTime.now());
-                chatRoomRepository.save(chatRoom);
-
                 WsMessage wsMessage = WsMessage.builder()
                         .id(systemMessage.getId())
                         .chatRoomId(chatRoom.getId())
@@ -370,22 +440,19 @@ public class OrderServiceImpl implements OrderService {
                         .type(WsMessage.MessageType.SYSTEM)
                         .build();
 
-                messagingTemplate.convertAndSendToUser(
-                        order.getExecutor().getEmail(),
-                        "/queue/messages",
-                        wsMessage
-                );
+                outboxService.enqueueWebSocket(order.getExecutor(), "/queue/messages", wsMessage);
             }
 
             // Send email notification
-            emailService.sendRevisionRequested(order.getExecutor(), order, reason);
+            outboxService.enqueueEmail(OutboxService.EmailTemplate.REVISION_REQUESTED,
+                    order.getExecutor(), order, null, reason);
 
             // In-app notification to executor
             String notifMessage = "Заказчик запросил доработку по заказу \"" + order.getTitle() + "\".";
             if (reason != null && !reason.isBlank()) {
                 notifMessage += " Причина: " + reason;
             }
-            inAppNotificationService.send(
+            outboxService.enqueueNotification(
                     order.getExecutor(),
                     NotificationType.REVISION_REQUESTED,
                     "Запрошена доработка",
@@ -406,26 +473,26 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public PageResponse<OrderListResponse> getMyOrdersAsClient(Long clientId, Pageable pageable) {
-        Page<Order> page = orderRepository.findByClientIdOrderByCreatedAtDesc(clientId, pageable);
+        Slice<OrderListView> page = orderRepository.findClientOrderViews(clientId, pageable);
 
         List<OrderListResponse> content = page.getContent().stream()
-                .map(this::mapToListResponse)
+                .map(view -> mapToListResponse(view).build())
                 .collect(Collectors.toList());
 
-        return PageResponse.of(page, content);
+        return PageResponse.of(page, content, () -> orderRepository.countByClientId(clientId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public PageResponse<OrderListResponse> getMyOrdersAsExecutor(Long executorId, Pageable pageable) {
         // Get all orders where user has responded (including pending and selected)
-        Page<OrderResponse> responsePage = orderResponseRepository.findByExecutorIdOrderByCreatedAtDesc(executorId, pageable);
+        Slice<ExecutorOrderListView> page = orderRepository.findExecutorOrderViews(executorId, pageable);
 
-        List<OrderListResponse> content = responsePage.getContent().stream()
-                .map(response -> mapToListResponseWithExecutorStatus(response.getOrder(), response.getIsSelected()))
+        List<OrderListResponse> content = page.getContent().stream()
+                .map(view -> mapToListResponse(view).isExecutorSelected(view.getIsExecutorSelected()).build())
                 .collect(Collectors.toList());
 
-        return PageResponse.of(responsePage, content);
+        return PageResponse.of(page, content, () -> orderResponseRepository.countByExecutorId(executorId));
     }
 
     @Override
@@ -439,9 +506,7 @@ public class OrderServiceImpl implements OrderService {
             throw new ForbiddenException("Only order owner can view responses");
         }
 
-        return orderResponseRepository.findByOrderIdOrderByCreatedAtDesc(orderId).stream()
-                .map(this::mapResponseToDto)
-                .collect(Collectors.toList());
+        return mapResponsesToDtos(orderResponseRepository.findByOrderIdOrderByCreatedAtDesc(orderId));
     }
 
     @Override
@@ -466,11 +531,11 @@ public class OrderServiceImpl implements OrderService {
             throw new BadRequestException("You need to create an executor profile first");
         }
 
-        User executor = userRepository.findById(executorId)
+        User executor = viewerContext.getUser(executorId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", executorId));
 
         // Check verification and subscription access
-        if (!subscriptionService.canAccessOrders(executor)) {
+        if (!viewerContext.canAccessOrders(executorId)) {
             if (!executor.getExecutorVerified()) {
                 throw new ForbiddenException("Требуется верификация для отклика на заказы");
             } else {
@@ -492,11 +557,10 @@ public class OrderServiceImpl implements OrderService {
         // Update response count
         orderRepository.incrementResponseCount(orderId);
 
-        // Send email notification to client
-        emailService.sendNewOrderResponse(order.getClient(), order, executor);
-
-        // In-app notification to client
-        inAppNotificationService.send(
+        // Email and in-app notification to client
+        outboxService.enqueueEmail(OutboxService.EmailTemplate.NEW_ORDER_RESPONSE,
+                order.getClient(), order, executor, null);
+        outboxService.enqueueNotification(
                 order.getClient(),
                 NotificationType.NEW_RESPONSE,
                 "Новый отклик на заказ",
@@ -550,13 +614,11 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public PageResponse<OrderResponseDto> getMyResponses(Long executorId, Pageable pageable) {
-        Page<OrderResponse> page = orderResponseRepository.findByExecutorIdOrderByCreatedAtDesc(executorId, pageable);
+        Slice<OrderResponse> page = orderResponseRepository.findByExecutorIdOrderByCreatedAtDesc(executorId, pageable);
 
-        List<OrderResponseDto> content = page.getContent().stream()
-                .map(this::mapResponseToDto)
-                .collect(Collectors.toList());
+        List<OrderResponseDto> content = mapResponsesToDtos(page.getContent());
 
-        return PageResponse.of(page, content);
+        return PageResponse.of(page, content, () -> orderResponseRepository.countByExecutorId(executorId));
     }
 
     // Helper methods
@@ -583,64 +645,52 @@ public class OrderServiceImpl implements OrderService {
         return order;
     }
 
-    private OrderListResponse mapToListResponse(Order order) {
-        return OrderListResponse.builder()
-                .id(order.getId())
-                .title(order.getTitle())
-                .description(order.getDescription())
-                .categoryId(order.getCategory().getId())
-                .categoryName(order.getCategory().getName())
-                .clientId(order.getClient().getId())
-                .clientName(order.getClient().getFullName())
-                .budgetMin(order.getBudgetMin())
-                .budgetMax(order.getBudgetMax())
-                .deadline(order.getDeadline())
-                .location(order.getLocation())
-                .status(order.getStatus())
-                .responseCount(order.getResponseCount())
-                .createdAt(order.getCreatedAt())
-                .build();
+    /**
+     * Resolves an order location against the city dictionary: an explicit id wins,
+     * otherwise free text that exactly names a city is linked to it and anything else stays free text.
+     */
+    private Location resolveLocation(Long locationId, String locationText) {
+        if (locationId != null) {
+            return locationRepository.findById(locationId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Location", "id", locationId));
+        }
+        if (locationText == null || locationText.isBlank()) {
+            return null;
+        }
+        return locationRepository.findByNameIgnoreCaseAndActiveTrue(locationText.trim()).orElse(null);
     }
 
-    private OrderListResponse mapToListResponseWithExecutorStatus(Order order, Boolean isExecutorSelected) {
+    private OrderListResponse.OrderListResponseBuilder mapToListResponse(OrderListView view) {
         return OrderListResponse.builder()
-                .id(order.getId())
-                .title(order.getTitle())
-                .description(order.getDescription())
-                .categoryId(order.getCategory().getId())
-                .categoryName(order.getCategory().getName())
-                .clientId(order.getClient().getId())
-                .clientName(order.getClient().getFullName())
-                .budgetMin(order.getBudgetMin())
-                .budgetMax(order.getBudgetMax())
-                .deadline(order.getDeadline())
-                .location(order.getLocation())
-                .status(order.getStatus())
-                .responseCount(order.getResponseCount())
-                .createdAt(order.getCreatedAt())
-                .isExecutorSelected(isExecutorSelected)
-                .build();
+                .id(view.getId())
+                .title(view.getTitle())
+                .description(view.getDescription())
+                .categoryId(view.getCategoryId())
+                .categoryName(view.getCategoryName())
+                .clientId(view.getClientId())
+                .clientName(view.getClientName())
+                .budgetMin(view.getBudgetMin())
+                .budgetMax(view.getBudgetMax())
+                .deadline(view.getDeadline())
+                .location(view.getLocation())
+                .locationId(view.getLocationId())
+                .status(OrderStatus.valueOf(view.getStatus()))
+                .responseCount(view.getResponseCount())
+                .createdAt(view.getCreatedAt());
     }
 
-    private OrderListResponse mapToListResponseWithUserContext(Order order, Long userId) {
-        boolean hasResponded = userId != null && orderResponseRepository.existsByOrderIdAndExecutorId(order.getId(), userId);
-        return OrderListResponse.builder()
-                .id(order.getId())
-                .title(order.getTitle())
-                .description(order.getDescription())
-                .categoryId(order.getCategory().getId())
-                .categoryName(order.getCategory().getName())
-                .clientId(order.getClient().getId())
-                .clientName(order.getClient().getFullName())
-                .budgetMin(order.getBudgetMin())
-                .budgetMax(order.getBudgetMax())
-                .deadline(order.getDeadline())
-                .location(order.getLocation())
-                .status(order.getStatus())
-                .responseCount(order.getResponseCount())
-                .createdAt(order.getCreatedAt())
-                .hasResponded(hasResponded)
-                .build();
+    private List<OrderListResponse> mapToListResponsesWithUserContext(List<OrderListView> orders, Long userId) {
+        List<Long> orderIds = orders.stream()
+                .map(OrderListView::getId)
+                .toList();
+
+        Set<Long> respondedOrderIds = userId != null && !orderIds.isEmpty()
+                ? orderResponseRepository.findRespondedOrderIds(userId, orderIds)
+                : Set.of();
+
+        return orders.stream()
+                .map(view -> mapToListResponse(view).hasResponded(respondedOrderIds.contains(view.getId())).build())
+                .collect(Collectors.toList());
     }
 
     private OrderDetailResponse mapToDetailResponse(Order order, Long userId) {
@@ -650,9 +700,8 @@ public class OrderServiceImpl implements OrderService {
 
         // Check if user can see full description
         // Full description visible for: owner, executor, or verified users with active subscription (if required)
-        boolean isVerified = userId != null && executorVerificationService.isVerified(userId);
-        User user = userId != null ? userRepository.findById(userId).orElse(null) : null;
-        boolean hasSubscriptionAccess = user != null && subscriptionService.canAccessOrders(user);
+        boolean isVerified = viewerContext.isVerified(userId);
+        boolean hasSubscriptionAccess = viewerContext.canAccessOrders(userId);
         boolean canSeeFullDescription = isOwner || isExecutor || (isVerified && hasSubscriptionAccess);
 
         String description = order.getDescription();
@@ -686,6 +735,7 @@ public class OrderServiceImpl implements OrderService {
                 .budgetMax(order.getBudgetMax())
                 .agreedPrice(order.getAgreedPrice())
                 .location(order.getLocation())
+                .locationId(order.getLocationId())
                 .deadline(order.getDeadline())
                 .agreedDeadline(order.getAgreedDeadline())
                 .status(order.getStatus())
@@ -706,8 +756,29 @@ public class OrderServiceImpl implements OrderService {
     }
 
     private OrderResponseDto mapResponseToDto(OrderResponse response) {
+        ExecutorProfile profile = executorProfileRepository.findById(response.getExecutor().getId()).orElse(null);
+        return mapResponseToDto(response, profile);
+    }
+
+    // Loads all executor profiles of the page in one query instead of one per response
+    private List<OrderResponseDto> mapResponsesToDtos(List<OrderResponse> responses) {
+        if (responses.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> executorIds = responses.stream()
+                .map(response -> response.getExecutor().getId())
+                .collect(Collectors.toSet());
+        Map<Long, ExecutorProfile> profiles = executorProfileRepository.findAllById(executorIds).stream()
+                .collect(Collectors.toMap(ExecutorProfile::getId, Function.identity()));
+
+        return responses.stream()
+                .map(response -> mapResponseToDto(response, profiles.get(response.getExecutor().getId())))
+                .collect(Collectors.toList());
+    }
+
+    private OrderResponseDto mapResponseToDto(OrderResponse response, ExecutorProfile profile) {
         User executor = response.getExecutor();
-        ExecutorProfile profile = executorProfileRepository.findById(executor.getId()).orElse(null);
 
         return OrderResponseDto.builder()
                 .id(response.getId())
@@ -727,4 +798,35 @@ public class OrderServiceImpl implements OrderService {
                 .createdAt(response.getCreatedAt())
                 .build();
     }
+
+    /**
+     * Position in the public feed: (created_at, id) of the last order on the previous page,
+     * serialized as an opaque URL-safe token.
+     */
+    private record FeedCursor(LocalDateTime createdAt, Long id) {
+
+        static FeedCursor of(OrderListView order) {
+            return new FeedCursor(order.getCreatedAt(), order.getId());
+        }
+
+        static FeedCursor decode(String token) {
+            if (token == null || token.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new FeedCursor(
+                        LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+    }
 }
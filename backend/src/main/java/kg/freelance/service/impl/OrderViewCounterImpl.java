@@ -0,0 +1,99 @@
+package kg.freelance.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import kg.freelance.service.OrderViewCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class OrderViewCounterImpl implements OrderViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE orders SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    // merge() and remove() are atomic per key, so a view lands either in the delta a flush takes
+    // out of the map or in a fresh entry for the next flush, never in between
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    private final Timer flushTimer;
+    private final Counter flushedViews;
+
+    public OrderViewCounterImpl(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTimer = Timer.builder("orders.views.flush")
+                .description("Time spent writing buffered order views")
+                .register(meterRegistry);
+        this.flushedViews = Counter.builder("orders.views.flushed")
+                .description("Order views written to the database")
+                .register(meterRegistry);
+        Gauge.builder("orders.views.buffered", this, OrderViewCounterImpl::getBufferedViews)
+                .description("Order views waiting for the next flush")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordView(Long orderId) {
+        pending.merge(orderId, 1L, Long::sum);
+    }
+
+    @Override
+    public long getPendingViews(Long orderId) {
+        return pending.getOrDefault(orderId, 0L);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.orders.view-flush-interval-ms:5000}")
+    public int flush() {
+        List<Object[]> batch = new ArrayList<>();
+
+        for (Long orderId : pending.keySet()) {
+            Long delta = pending.remove(orderId);
+            if (delta != null) {
+                batch.add(new Object[]{delta, orderId});
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // Update rows in id order so concurrent flushes from several instances lock in the same order
+        batch.sort((a, b) -> Long.compare((Long) a[1], (Long) b[1]));
+
+        try {
+            flushTimer.record(() -> {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            });
+            flushedViews.increment(batch.stream().mapToLong(row -> (Long) row[0]).sum());
+        } catch (RuntimeException e) {
+            // Put the deltas back so the next flush retries them
+            for (Object[] row : batch) {
+                pending.merge((Long) row[1], (Long) row[0], Long::sum);
+            }
+            log.warn("Failed to flush view counts for {} orders: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+        return batch.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("Flushed buffered views for {} orders on shutdown", flushed);
+    }
+
+    private double getBufferedViews() {
+        return pending.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
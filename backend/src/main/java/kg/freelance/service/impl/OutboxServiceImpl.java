@@ -0,0 +1,285 @@
+package kg.freelance.service.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import kg.freelance.entity.Order;
+import kg.freelance.entity.OutboxEvent;
+import kg.freelance.entity.User;
+import kg.freelance.entity.enums.NotificationType;
+import kg.freelance.entity.enums.OutboxChannel;
+import kg.freelance.entity.enums.OutboxStatus;
+import kg.freelance.repository.OrderRepository;
+import kg.freelance.repository.OutboxEventRepository;
+import kg.freelance.repository.UserRepository;
+import kg.freelance.service.EmailService;
+import kg.freelance.service.InAppNotificationService;
+import kg.freelance.service.OutboxService;
+import kg.freelance.service.PushNotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxServiceImpl implements OutboxService {
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+    private static final long MAX_RETRY_DELAY_SECONDS = 600;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final UserRepository userRepository;
+    private final OrderRepository orderRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final EmailService emailService;
+    private final InAppNotificationService inAppNotificationService;
+    private final PushNotificationService pushNotificationService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.outbox.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${app.outbox.max-attempts:8}")
+    private int maxAttempts = 8;
+
+    @Value("${app.outbox.retry-base-seconds:5}")
+    private long retryBaseSeconds = 5;
+
+    @Value("${app.outbox.lease-seconds:60}")
+    private long leaseSeconds = 60;
+
+    @Value("${app.outbox.retention-days:7}")
+    private int retentionDays = 7;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueWebSocket(User recipient, String destination, Object payload) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("user", recipient.getEmail());
+        data.put("destination", destination);
+        // Serialized with the application mapper so the client receives the same JSON as from a direct send
+        data.put("body", objectMapper.convertValue(payload, PAYLOAD_TYPE));
+        save(OutboxChannel.WEBSOCKET, recipient, null, data);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueEmail(EmailTemplate template, User recipient, Order order) {
+        enqueueEmail(template, recipient, order, null, null);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueEmail(EmailTemplate template, User recipient, Order order, User actor, String reason) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("template", template.name());
+        if (actor != null) {
+            data.put("actorId", actor.getId());
+        }
+        if (reason != null) {
+            data.put("reason", reason);
+        }
+        save(OutboxChannel.EMAIL, recipient, order, data);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueNotification(User recipient, NotificationType type, String title, String message,
+                                    Order order, String link) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("type", type.name());
+        data.put("title", title);
+        data.put("message", message);
+        if (link != null) {
+            data.put("link", link);
+        }
+        save(OutboxChannel.NOTIFICATION, recipient, order, data);
+        // Separate event so an FCM failure retries only the push, never the stored notification
+        save(OutboxChannel.PUSH, recipient, order, new HashMap<>(data));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public int dispatchPending() {
+        int delivered = 0;
+        List<Long> batch;
+        do {
+            batch = claimBatch();
+            for (Long eventId : batch) {
+                if (dispatch(eventId)) {
+                    delivered++;
+                }
+            }
+        } while (batch.size() == batchSize);
+        return delivered;
+    }
+
+    @Override
+    @Scheduled(cron = "${app.outbox.purge-cron:0 30 3 * * *}")
+    @Transactional
+    public int purgeSent() {
+        int removed = outboxEventRepository.deleteByStatusAndSentAtBefore(
+                OutboxStatus.SENT, LocalDateTime.now().minusDays(retentionDays));
+        if (removed > 0) {
+            log.info("Purged {} delivered outbox events", removed);
+        }
+        return removed;
+    }
+
+    private void save(OutboxChannel channel, User recipient, Order order, Map<String, Object> payload) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .channel(channel)
+                .recipientId(recipient.getId())
+                .orderId(order != null ? order.getId() : null)
+                .payload(payload)
+                .availableAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Locks due events and pushes their availability past the lease, so the rows are free again
+     * as soon as this short transaction commits but nobody else picks them up while we deliver.
+     * If this instance dies mid-batch, the lease expires and another one retries.
+     */
+    private List<Long> claimBatch() {
+        List<Long> ids = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.lockDueEvents(now, batchSize);
+            events.forEach(event -> event.setAvailableAt(now.plusSeconds(leaseSeconds)));
+            return events.stream().map(OutboxEvent::getId).toList();
+        });
+        return ids != null ? ids : List.of();
+    }
+
+    private boolean dispatch(Long eventId) {
+        OutboxChannel channel;
+        try {
+            channel = transactionTemplate.execute(status -> {
+                OutboxEvent event = outboxEventRepository.findById(eventId).orElse(null);
+                if (event == null || event.getStatus() != OutboxStatus.PENDING) {
+                    return null;
+                }
+                meterRegistry.timer("outbox.dispatch", "channel", event.getChannel().name())
+                        .record(() -> deliver(event));
+                event.setStatus(OutboxStatus.SENT);
+                event.setSentAt(LocalDateTime.now());
+                return event.getChannel();
+            });
+        } catch (RuntimeException e) {
+            recordFailure(eventId, e);
+            return false;
+        }
+        if (channel == null) {
+            return false;
+        }
+        count(channel, "sent");
+        return true;
+    }
+
+    private void deliver(OutboxEvent event) {
+        Map<String, Object> payload = event.getPayload();
+        switch (event.getChannel()) {
+            case WEBSOCKET -> messagingTemplate.convertAndSendToUser(
+                    (String) payload.get("user"),
+                    (String) payload.get("destination"),
+                    payload.get("body")
+            );
+            case EMAIL -> deliverEmail(event, payload);
+            case NOTIFICATION -> inAppNotificationService.sendInApp(
+                    findRecipient(event),
+                    NotificationType.valueOf((String) payload.get("type")),
+                    (String) payload.get("title"),
+                    (String) payload.get("message"),
+                    event.getOrderId() != null ? orderRepository.findById(event.getOrderId()).orElse(null) : null,
+                    (String) payload.get("link")
+            );
+            case PUSH -> deliverPush(event, payload);
+        }
+    }
+
+    private void deliverPush(OutboxEvent event, Map<String, Object> payload) {
+        Map<String, String> data = new HashMap<>();
+        data.put("type", (String) payload.get("type"));
+        if (event.getOrderId() != null) {
+            data.put("orderId", event.getOrderId().toString());
+        }
+        if (payload.get("link") != null) {
+            data.put("link", (String) payload.get("link"));
+        }
+        pushNotificationService.sendPushNow(findRecipient(event),
+                (String) payload.get("title"), (String) payload.get("message"), data);
+    }
+
+    private void deliverEmail(OutboxEvent event, Map<String, Object> payload) {
+        Order order = orderRepository.findById(event.getOrderId()).orElse(null);
+        if (order == null) {
+            log.debug("Skipping email for outbox event {}: order {} no longer exists", event.getId(), event.getOrderId());
+            return;
+        }
+        User recipient = findRecipient(event);
+
+        switch (EmailTemplate.valueOf((String) payload.get("template"))) {
+            case EXECUTOR_SELECTED -> emailService.sendExecutorSelected(recipient, order);
+            case WORK_SUBMITTED_FOR_REVIEW -> emailService.sendWorkSubmittedForReview(recipient, order);
+            case WORK_APPROVED -> emailService.sendWorkApproved(recipient, order);
+            case REVISION_REQUESTED -> emailService.sendRevisionRequested(recipient, order, (String) payload.get("reason"));
+            case NEW_ORDER_RESPONSE -> {
+                Long actorId = ((Number) payload.get("actorId")).longValue();
+                User actor = userRepository.findById(actorId)
+                        .orElseThrow(() -> new IllegalStateException("User " + actorId + " not found"));
+                emailService.sendNewOrderResponse(recipient, order, actor);
+            }
+        }
+    }
+
+    private User findRecipient(OutboxEvent event) {
+        return userRepository.findById(event.getRecipientId())
+                .orElseThrow(() -> new IllegalStateException("User " + event.getRecipientId() + " not found"));
+    }
+
+    private void recordFailure(Long eventId, RuntimeException error) {
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(eventId).ifPresent(event -> {
+            int attempts = event.getAttempts() + 1;
+            event.setAttempts(attempts);
+            event.setLastError(truncate(error.toString()));
+
+            if (attempts >= maxAttempts) {
+                event.setStatus(OutboxStatus.FAILED);
+                count(event.getChannel(), "failed");
+                log.error("Giving up on outbox event {} ({}) after {} attempts", eventId, event.getChannel(), attempts, error);
+            } else {
+                event.setAvailableAt(LocalDateTime.now().plusSeconds(retryDelaySeconds(attempts)));
+                count(event.getChannel(), "retried");
+                log.warn("Outbox event {} ({}) failed, attempt {}: {}", eventId, event.getChannel(), attempts, error.getMessage());
+            }
+        }));
+    }
+
+    private long retryDelaySeconds(int attempts) {
+        long delay = retryBaseSeconds << Math.min(attempts - 1, 20);
+        return Math.min(delay, MAX_RETRY_DELAY_SECONDS);
+    }
+
+    private void count(OutboxChannel channel, String result) {
+        meterRegistry.counter("outbox.events", "channel", channel.name(), "result", result).increment();
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
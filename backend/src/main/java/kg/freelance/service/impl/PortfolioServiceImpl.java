@@ -11,6 +11,7 @@ import kg.freelance.exception.ResourceNotFoundException;
 import kg.freelance.repository.CategoryRepository;
 import kg.freelance.repository.ExecutorProfileRepository;
 import kg.freelance.repository.PortfolioRepository;
+import kg.freelance.service.ExecutorPageCache;
 import kg.freelance.service.PortfolioService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -26,6 +27,7 @@ public class PortfolioServiceImpl implements PortfolioService {
     private final PortfolioRepository portfolioRepository;
     private final ExecutorProfileRepository executorProfileRepository;
     private final CategoryRepository categoryRepository;
+    private final ExecutorPageCache executorPageCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -60,6 +62,7 @@ public class PortfolioServiceImpl implements PortfolioService {
                 .build();
 
         portfolio = portfolioRepository.save(portfolio);
+        executorPageCache.evict(userId);
         return mapToResponse(portfolio);
     }
 
@@ -92,6 +95,7 @@ public class PortfolioServiceImpl implements PortfolioService {
         }
 
         portfolio = portfolioRepository.save(portfolio);
+        executorPageCache.evict(userId);
         return mapToResponse(portfolio);
     }
 
@@ -106,6 +110,7 @@ public class PortfolioServiceImpl implements PortfolioService {
         }
 
         portfolioRepository.delete(portfolio);
+        executorPageCache.evict(userId);
     }
 
     @Override
@@ -124,6 +129,7 @@ public class PortfolioServiceImpl implements PortfolioService {
         }
 
         portfolioRepository.saveAll(items);
+        executorPageCache.evict(userId);
     }
 
     private PortfolioResponse mapToResponse(Portfolio portfolio) {
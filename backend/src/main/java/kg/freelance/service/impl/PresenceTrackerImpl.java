@@ -0,0 +1,99 @@
+package kg.freelance.service.impl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import kg.freelance.service.PresenceTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class PresenceTrackerImpl implements PresenceTracker {
+
+    // Users without an executor profile match no row; an older timestamp never overwrites a newer one
+    private static final String FLUSH_SQL = """
+            UPDATE executor_profiles SET last_active_at = ?
+            WHERE user_id = ? AND (last_active_at IS NULL OR last_active_at < ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final Map<Long, LocalDateTime> lastSeen = new ConcurrentHashMap<>();
+    private final Timer flushTimer;
+
+    @Autowired
+    public PresenceTrackerImpl(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this(jdbcTemplate, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    PresenceTrackerImpl(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.flushTimer = Timer.builder("presence.flush")
+                .description("Time spent writing buffered last-seen timestamps")
+                .register(meterRegistry);
+        Gauge.builder("presence.buffered", lastSeen, Map::size)
+                .description("Users seen since the last presence flush")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void touch(Long userId) {
+        lastSeen.put(userId, LocalDateTime.now(clock));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.executors.presence-flush-interval-ms:60000}")
+    public int flush() {
+        List<Map.Entry<Long, LocalDateTime>> seen = new ArrayList<>();
+        lastSeen.forEach((userId, seenAt) -> {
+            // A touch racing with this keeps its newer value for the next flush
+            if (lastSeen.remove(userId, seenAt)) {
+                seen.add(Map.entry(userId, seenAt));
+            }
+        });
+
+        if (seen.isEmpty()) {
+            return 0;
+        }
+
+        // Update rows in id order so concurrent flushes from several instances lock in the same order
+        seen.sort(Map.Entry.comparingByKey());
+        List<Object[]> batch = seen.stream()
+                .map(entry -> new Object[]{Timestamp.valueOf(entry.getValue()), entry.getKey(),
+                        Timestamp.valueOf(entry.getValue())})
+                .toList();
+
+        try {
+            flushTimer.record(() -> {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            });
+        } catch (RuntimeException e) {
+            // Put the timestamps back unless the user was seen again in the meantime
+            seen.forEach(entry -> lastSeen.merge(entry.getKey(), entry.getValue(),
+                    (current, failed) -> current.isAfter(failed) ? current : failed));
+            log.warn("Failed to flush last-seen timestamps for {} users: {}", seen.size(), e.getMessage());
+            return 0;
+        }
+        return seen.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("Flushed last-seen timestamps for {} users on shutdown", flushed);
+    }
+}
@@ -2,6 +2,7 @@ package kg.freelance.service.impl;
 
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.Notification;
 import kg.freelance.entity.User;
@@ -25,6 +26,15 @@ public class PushNotificationServiceImpl implements PushNotificationService {
     @Override
     @Async
     public void sendPush(User recipient, String title, String body, Map<String, String> data) {
+        try {
+            sendPushNow(recipient, title, body, data);
+        } catch (RuntimeException e) {
+            log.warn("Failed to send FCM push to user {}: {}", recipient.getId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void sendPushNow(User recipient, String title, String body, Map<String, String> data) {
         if (recipient.getFcmToken() == null || recipient.getFcmToken().isBlank()) {
             return;
         }
@@ -32,20 +42,20 @@ public class PushNotificationServiceImpl implements PushNotificationService {
             log.debug("Firebase not initialized, skipping push notification");
             return;
         }
+        Message.Builder builder = Message.builder()
+                .setToken(recipient.getFcmToken())
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build());
+        if (data != null && !data.isEmpty()) {
+            builder.putAllData(data);
+        }
         try {
-            Message.Builder builder = Message.builder()
-                    .setToken(recipient.getFcmToken())
-                    .setNotification(Notification.builder()
-                            .setTitle(title)
-                            .setBody(body)
-                            .build());
-            if (data != null && !data.isEmpty()) {
-                builder.putAllData(data);
-            }
             String messageId = FirebaseMessaging.getInstance().send(builder.build());
             log.debug("FCM push sent to user {}: {}", recipient.getId(), messageId);
-        } catch (Exception e) {
-            log.warn("Failed to send FCM push to user {}: {}", recipient.getId(), e.getMessage());
+        } catch (FirebaseMessagingException e) {
+            throw new IllegalStateException("FCM push failed: " + e.getMessage(), e);
         }
     }
 
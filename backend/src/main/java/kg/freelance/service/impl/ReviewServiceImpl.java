@@ -3,7 +3,6 @@ package kg.freelance.service.impl;
 import kg.freelance.dto.request.ReviewRequest;
 import kg.freelance.dto.response.PageResponse;
 import kg.freelance.dto.response.ReviewResponse;
-import kg.freelance.entity.ExecutorProfile;
 import kg.freelance.entity.Order;
 import kg.freelance.entity.Review;
 import kg.freelance.entity.User;
@@ -15,26 +14,30 @@ import kg.freelance.repository.ExecutorProfileRepository;
 import kg.freelance.repository.OrderRepository;
 import kg.freelance.repository.ReviewRepository;
 import kg.freelance.repository.UserRepository;
+import kg.freelance.service.ExecutorPageCache;
 import kg.freelance.service.ReviewService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class ReviewServiceImpl implements ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final ExecutorProfileRepository executorProfileRepository;
+    private final ExecutorPageCache executorPageCache;
 
     @Override
     @Transactional
@@ -77,8 +80,7 @@ public class ReviewServiceImpl implements ReviewService {
 
         review = reviewRepository.save(review);
 
-        // Recalculate executor rating
-        recalculateExecutorRating(order.getExecutor().getId());
+        adjustExecutorRating(order.getExecutor().getId(), review.getRating(), 1);
 
         return mapToResponse(review);
     }
@@ -93,6 +95,7 @@ public class ReviewServiceImpl implements ReviewService {
             throw new ForbiddenException("You can only update your own reviews");
         }
 
+        int previousRating = review.getRating();
         if (request.getRating() != null) {
             review.setRating(request.getRating());
         }
@@ -105,8 +108,12 @@ public class ReviewServiceImpl implements ReviewService {
 
         review = reviewRepository.save(review);
 
-        // Recalculate executor rating
-        recalculateExecutorRating(review.getExecutor().getId());
+        // Hidden reviews are not part of the totals
+        if (review.getIsVisible() && review.getRating() != previousRating) {
+            adjustExecutorRating(review.getExecutor().getId(), review.getRating() - previousRating, 0);
+        } else if (review.getIsVisible()) {
+            executorPageCache.evict(review.getExecutor().getId());
+        }
 
         return mapToResponse(review);
     }
@@ -121,11 +128,11 @@ public class ReviewServiceImpl implements ReviewService {
             throw new ForbiddenException("You can only delete your own reviews");
         }
 
-        Long executorId = review.getExecutor().getId();
         reviewRepository.delete(review);
 
-        // Recalculate executor rating
-        recalculateExecutorRating(executorId);
+        if (review.getIsVisible()) {
+            adjustExecutorRating(review.getExecutor().getId(), -review.getRating(), -1);
+        }
     }
 
     @Override
@@ -147,13 +154,13 @@ public class ReviewServiceImpl implements ReviewService {
     @Override
     @Transactional(readOnly = true)
     public PageResponse<ReviewResponse> getExecutorReviews(Long executorId, Pageable pageable) {
-        Page<Review> page = reviewRepository.findByExecutorIdAndIsVisibleTrueOrderByCreatedAtDesc(executorId, pageable);
+        Slice<Review> page = reviewRepository.findByExecutorIdAndIsVisibleTrueOrderByCreatedAtDesc(executorId, pageable);
 
         List<ReviewResponse> content = page.getContent().stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
 
-        return PageResponse.of(page, content);
+        return PageResponse.of(page, content, () -> reviewRepository.countByExecutorId(executorId));
     }
 
     @Override
@@ -161,23 +168,31 @@ public class ReviewServiceImpl implements ReviewService {
         return reviewRepository.existsByOrderId(orderId);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void adjustExecutorRating(Long executorId, int ratingDelta, int countDelta) {
+        executorProfileRepository.applyReviewDelta(executorId, ratingDelta, countDelta);
+        // Every change to the visible reviews passes through here, the cached executor page lists them
+        executorPageCache.evict(executorId);
+    }
+
     @Override
     @Transactional
     public void recalculateExecutorRating(Long executorId) {
-        ExecutorProfile profile = executorProfileRepository.findById(executorId).orElse(null);
-        if (profile == null) return;
-
-        Double avgRating = reviewRepository.calculateAverageRating(executorId);
-        long reviewCount = reviewRepository.countByExecutorId(executorId);
+        executorProfileRepository.reconcileRatings(executorId);
+        executorPageCache.evict(executorId);
+    }
 
-        if (avgRating != null) {
-            profile.setRating(BigDecimal.valueOf(avgRating).setScale(2, RoundingMode.HALF_UP));
-        } else {
-            profile.setRating(BigDecimal.ZERO);
+    @Override
+    @Scheduled(cron = "${app.reviews.rating-reconcile-cron:0 45 4 * * *}")
+    @Transactional
+    public int reconcileExecutorRatings() {
+        int repaired = executorProfileRepository.reconcileRatings(null);
+        if (repaired > 0) {
+            // Every review write adjusts the totals, so drift points at a write path that skips them
+            log.warn("Repaired review totals of {} executor profiles", repaired);
         }
-        profile.setReviewCount((int) reviewCount);
-
-        executorProfileRepository.save(profile);
+        return repaired;
     }
 
     private ReviewResponse mapToResponse(Review review) {
@@ -0,0 +1,117 @@
+package kg.freelance.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kg.freelance.service.TypingCoalescer;
+import kg.freelance.websocket.dto.TypingIndicator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class TypingCoalescerImpl implements TypingCoalescer {
+
+    private static final String DESTINATION = "/queue/typing";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Clock clock;
+    private final long intervalMillis;
+    private final long quietMillis;
+
+    // Only users currently shown as typing have an entry
+    private final Map<TypingKey, TypingState> typing = new ConcurrentHashMap<>();
+
+    private final Counter forwarded;
+    private final Counter dropped;
+
+    @Autowired
+    public TypingCoalescerImpl(SimpMessagingTemplate messagingTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.chat.typing.interval-ms:3000}") long intervalMillis,
+                               @Value("${app.chat.typing.quiet-ms:6000}") long quietMillis) {
+        this(messagingTemplate, meterRegistry, Clock.systemUTC(), intervalMillis, quietMillis);
+    }
+
+    TypingCoalescerImpl(SimpMessagingTemplate messagingTemplate,
+                        MeterRegistry meterRegistry,
+                        Clock clock,
+                        long intervalMillis,
+                        long quietMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.clock = clock;
+        this.intervalMillis = intervalMillis;
+        this.quietMillis = quietMillis;
+        this.forwarded = meterRegistry.counter("chat.typing.frames", "result", "forwarded");
+        this.dropped = meterRegistry.counter("chat.typing.frames", "result", "dropped");
+    }
+
+    @Override
+    public void typing(Long chatRoomId, Long userId, String userName, String recipient, boolean isTyping) {
+        TypingKey key = new TypingKey(chatRoomId, userId);
+        long now = clock.millis();
+
+        if (!isTyping) {
+            TypingState state = typing.remove(key);
+            if (state != null) {
+                send(key, state.userName(), state.recipient(), false);
+            } else {
+                dropped.increment();
+            }
+            return;
+        }
+
+        // compute() serializes frames of the same user, so two racing frames forward at most once
+        boolean[] forward = new boolean[1];
+        typing.compute(key, (k, state) -> {
+            if (state == null || now - state.forwardedAt() >= intervalMillis) {
+                forward[0] = true;
+                return new TypingState(userName, recipient, now, now);
+            }
+            return new TypingState(state.userName(), state.recipient(), state.forwardedAt(), now);
+        });
+
+        if (forward[0]) {
+            send(key, userName, recipient, true);
+        } else {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.chat.typing.sweep-interval-ms:1000}")
+    public int expireQuiet() {
+        long now = clock.millis();
+        int expired = 0;
+        for (Map.Entry<TypingKey, TypingState> entry : typing.entrySet()) {
+            TypingState state = entry.getValue();
+            // A frame racing with this replaces the state and keeps the user typing
+            if (now - state.lastSeenAt() >= quietMillis && typing.remove(entry.getKey(), state)) {
+                send(entry.getKey(), state.userName(), state.recipient(), false);
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    private void send(TypingKey key, String userName, String recipient, boolean isTyping) {
+        messagingTemplate.convertAndSendToUser(recipient, DESTINATION, TypingIndicator.builder()
+                .chatRoomId(key.chatRoomId())
+                .userId(key.userId())
+                .userName(userName)
+                .isTyping(isTyping)
+                .build());
+        forwarded.increment();
+    }
+
+    private record TypingKey(Long chatRoomId, Long userId) {
+    }
+
+    private record TypingState(String userName, String recipient, long forwardedAt, long lastSeenAt) {
+    }
+}
@@ -0,0 +1,78 @@
+package kg.freelance.service.impl;
+
+import kg.freelance.entity.User;
+import kg.freelance.repository.UserRepository;
+import kg.freelance.service.SubscriptionService;
+import kg.freelance.service.ViewerContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class ViewerContextImpl implements ViewerContext {
+
+    private static final String ATTRIBUTE = ViewerContextImpl.class.getName() + ".viewers";
+
+    private final UserRepository userRepository;
+    private final SubscriptionService subscriptionService;
+
+    @Override
+    public Optional<User> getUser(Long userId) {
+        if (userId == null) return Optional.empty();
+        return Optional.ofNullable(resolve(userId).user);
+    }
+
+    @Override
+    public boolean isVerified(Long userId) {
+        return getUser(userId)
+                .map(user -> Boolean.TRUE.equals(user.getExecutorVerified()))
+                .orElse(false);
+    }
+
+    @Override
+    public boolean canAccessOrders(Long userId) {
+        if (userId == null) return false;
+        Viewer viewer = resolve(userId);
+        if (viewer.user == null) return false;
+        if (viewer.canAccessOrders == null) {
+            viewer.canAccessOrders = subscriptionService.canAccessOrders(viewer.user);
+        }
+        return viewer.canAccessOrders;
+    }
+
+    private Viewer resolve(Long userId) {
+        Map<Long, Viewer> viewers = currentViewers();
+        if (viewers == null) {
+            return new Viewer(userRepository.findById(userId).orElse(null));
+        }
+        return viewers.computeIfAbsent(userId, id -> new Viewer(userRepository.findById(id).orElse(null)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Viewer> currentViewers() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) return null;
+
+        Map<Long, Viewer> viewers = (Map<Long, Viewer>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (viewers == null) {
+            viewers = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE, viewers, RequestAttributes.SCOPE_REQUEST);
+        }
+        return viewers;
+    }
+
+    private static final class Viewer {
+        private final User user;
+        private Boolean canAccessOrders;
+
+        private Viewer(User user) {
+            this.user = user;
+        }
+    }
+}
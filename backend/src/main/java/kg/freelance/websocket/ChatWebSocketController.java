@@ -3,12 +3,15 @@ package kg.freelance.websocket;
 import kg.freelance.dto.request.ChatMessageRequest;
 import kg.freelance.entity.ChatRoom;
 import kg.freelance.security.UserPrincipal;
+import kg.freelance.service.ChatMessageIngestor;
 import kg.freelance.service.ChatService;
+import kg.freelance.service.TypingCoalescer;
 import kg.freelance.websocket.dto.ReadReceipt;
 import kg.freelance.websocket.dto.TypingIndicator;
 import kg.freelance.websocket.dto.WsMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -26,6 +29,8 @@ public class ChatWebSocketController {
 
     private final ChatService chatService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final TypingCoalescer typingCoalescer;
+    private final ObjectProvider<ChatMessageIngestor> chatMessageIngestor;
 
     /**
      * Send a message to chat room
@@ -48,12 +53,26 @@ public class ChatWebSocketController {
             return;
         }
 
-        // Save and create message
-        WsMessage message = chatService.sendMessageWs(chatRoomId, user.getId(), request);
-
         // Get other participant email
         String otherUserEmail = chatService.getOtherParticipantEmail(chatRoomId, user.getId());
 
+        ChatMessageIngestor ingestor = chatMessageIngestor.getIfAvailable();
+        if (ingestor != null) {
+            // Group commit: the sender sees the echo only once the batch holding the message is committed
+            ingestor.submit(chatRoomId, user.getId(), request).whenComplete((message, error) -> {
+                if (error != null) {
+                    log.warn("Message in chat {} by user {} was not stored: {}", chatRoomId, user.getId(), error.getMessage());
+                    return;
+                }
+                sendToUser(user.getEmail(), message);
+                sendToUser(otherUserEmail, message);
+            });
+            return;
+        }
+
+        // Save and create message
+        WsMessage message = chatService.sendMessageWs(chatRoomId, user.getId(), request);
+
         // Send to both participants (use email as identifier)
         sendToUser(user.getEmail(), message);
         sendToUser(otherUserEmail, message);
@@ -96,7 +115,7 @@ public class ChatWebSocketController {
     }
 
     /**
-     * Typing indicator
+     * Typing indicator, coalesced before it is forwarded
      * Client sends to: /app/chat/{chatRoomId}/typing
      */
     @MessageMapping("/chat/{chatRoomId}/typing")
@@ -112,18 +131,8 @@ public class ChatWebSocketController {
 
         String otherUserEmail = chatService.getOtherParticipantEmail(chatRoomId, user.getId());
 
-        TypingIndicator notification = TypingIndicator.builder()
-                .chatRoomId(chatRoomId)
-                .userId(user.getId())
-                .userName(user.getFullName())
-                .isTyping(indicator.getIsTyping())
-                .build();
-
-        messagingTemplate.convertAndSendToUser(
-                otherUserEmail,
-                "/queue/typing",
-                notification
-        );
+        typingCoalescer.typing(chatRoomId, user.getId(), user.getFullName(), otherUserEmail,
+                Boolean.TRUE.equals(indicator.getIsTyping()));
     }
 
     // Helper methods
@@ -1,6 +1,8 @@
 package kg.freelance.websocket;
 
 import kg.freelance.security.UserPrincipal;
+import kg.freelance.service.OrderFeedNotifier;
+import kg.freelance.service.PresenceTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -20,6 +22,8 @@ public class WebSocketEventListener {
 
     // Track connected users: userId -> sessionId
     private final Map<Long, String> connectedUsers = new ConcurrentHashMap<>();
+    private final OrderFeedNotifier orderFeedNotifier;
+    private final PresenceTracker presenceTracker;
 
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectedEvent event) {
@@ -29,6 +33,8 @@ public class WebSocketEventListener {
             if (auth.getPrincipal() instanceof UserPrincipal user) {
                 String sessionId = headerAccessor.getSessionId();
                 connectedUsers.put(user.getId(), sessionId);
+                orderFeedNotifier.userConnected(user.getId(), auth.getName(), sessionId);
+                presenceTracker.touch(user.getId());
                 log.info("User connected: {} (session: {})", user.getEmail(), sessionId);
             }
         }
@@ -40,8 +46,12 @@ public class WebSocketEventListener {
 
         if (headerAccessor.getUser() instanceof UsernamePasswordAuthenticationToken auth) {
             if (auth.getPrincipal() instanceof UserPrincipal user) {
+                String sessionId = headerAccessor.getSessionId();
                 connectedUsers.remove(user.getId());
-                log.info("User disconnected: {} (session: {})", user.getEmail(), headerAccessor.getSessionId());
+                orderFeedNotifier.userDisconnected(user.getId(), sessionId);
+                // Last seen is when the session ended, not when it started
+                presenceTracker.touch(user.getId());
+                log.info("User disconnected: {} (session: {})", user.getEmail(), sessionId);
             }
         }
     }
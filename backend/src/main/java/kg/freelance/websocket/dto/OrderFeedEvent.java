@@ -0,0 +1,39 @@
+package kg.freelance.websocket.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Batch of new orders pushed to /user/queue/order-feed. When {@code more} is set the batch was
+ * truncated and the client should reload the first feed page instead.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderFeedEvent {
+
+    private List<Item> orders;
+    private boolean more;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long id;
+        private String title;
+        private Long categoryId;
+        private String categoryName;
+        private BigDecimal budgetMin;
+        private BigDecimal budgetMax;
+        private String location;
+        private LocalDateTime createdAt;
+    }
+}
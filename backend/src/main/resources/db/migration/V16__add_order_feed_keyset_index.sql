@@ -0,0 +1,3 @@
+-- Keyset index for the public order feed: seeks on (created_at, id) without OFFSET
+CREATE INDEX idx_orders_public_new_keyset ON orders(created_at DESC, id DESC)
+    WHERE is_public = TRUE AND status = 'NEW';
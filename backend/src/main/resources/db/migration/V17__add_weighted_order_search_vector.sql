@@ -0,0 +1,27 @@
+-- Weighted full-text search over orders: title (A), description (B), location (C)
+-- Replaces the title-only expression index from V10
+ALTER TABLE orders ADD COLUMN search_vector TSVECTOR;
+
+CREATE OR REPLACE FUNCTION orders_search_vector_update() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector :=
+        setweight(to_tsvector('russian', coalesce(NEW.title, '')), 'A') ||
+        setweight(to_tsvector('russian', coalesce(NEW.description, '')), 'B') ||
+        setweight(to_tsvector('russian', coalesce(NEW.location, '')), 'C');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_orders_search_vector
+    BEFORE INSERT OR UPDATE OF title, description, location ON orders
+    FOR EACH ROW EXECUTE FUNCTION orders_search_vector_update();
+
+-- Backfill existing rows
+UPDATE orders SET search_vector =
+    setweight(to_tsvector('russian', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('russian', coalesce(description, '')), 'B') ||
+    setweight(to_tsvector('russian', coalesce(location, '')), 'C');
+
+CREATE INDEX idx_orders_search_vector ON orders USING GIN (search_vector);
+
+DROP INDEX IF EXISTS idx_orders_title_fts;
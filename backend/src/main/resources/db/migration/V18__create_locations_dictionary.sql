@@ -0,0 +1,37 @@
+-- Normalized city dictionary for orders and trigram index for free-text location search
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE TABLE locations (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(100) NOT NULL UNIQUE,
+    slug VARCHAR(100) NOT NULL UNIQUE,
+    sort_order INTEGER NOT NULL DEFAULT 0,
+    active BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+INSERT INTO locations (name, slug, sort_order) VALUES
+    ('Бишкек', 'bishkek', 1),
+    ('Ош', 'osh', 2),
+    ('Джалал-Абад', 'jalal-abad', 3),
+    ('Каракол', 'karakol', 4),
+    ('Токмок', 'tokmok', 5),
+    ('Кара-Балта', 'kara-balta', 6),
+    ('Нарын', 'naryn', 7),
+    ('Талас', 'talas', 8),
+    ('Баткен', 'batken', 9),
+    ('Узген', 'uzgen', 10),
+    ('Балыкчы', 'balykchy', 11),
+    ('Кант', 'kant', 12),
+    ('Чолпон-Ата', 'cholpon-ata', 13),
+    ('Кызыл-Кия', 'kyzyl-kiya', 14),
+    ('Онлайн', 'online', 100);
+
+ALTER TABLE orders ADD COLUMN location_id BIGINT REFERENCES locations(id);
+
+CREATE INDEX idx_orders_location_id ON orders(location_id);
+CREATE INDEX idx_orders_location_trgm ON orders USING GIN (location gin_trgm_ops);
+
+-- Link existing orders whose free-text location is exactly a known city
+UPDATE orders o SET location_id = l.id
+FROM locations l
+WHERE o.location IS NOT NULL AND lower(trim(o.location)) = lower(l.name);
@@ -0,0 +1,18 @@
+-- Side effects of order lifecycle changes (WebSocket pushes, emails, in-app notifications).
+-- Rows are written in the business transaction and delivered by a background dispatcher.
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    channel VARCHAR(20) NOT NULL,
+    recipient_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    order_id BIGINT,
+    payload JSONB NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    available_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    sent_at TIMESTAMP
+);
+
+CREATE INDEX idx_outbox_events_pending ON outbox_events(available_at, id) WHERE status = 'PENDING';
+CREATE INDEX idx_outbox_events_sent_at ON outbox_events(sent_at) WHERE status = 'SENT';
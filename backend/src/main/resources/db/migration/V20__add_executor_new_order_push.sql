@@ -0,0 +1,2 @@
+-- Executors opt in to FCM pushes about new orders in their categories while they are offline
+ALTER TABLE executor_profiles ADD COLUMN notify_new_orders BOOLEAN NOT NULL DEFAULT FALSE;
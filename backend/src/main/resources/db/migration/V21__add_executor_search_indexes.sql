@@ -0,0 +1,28 @@
+-- Executor search: trigram indexes for substring matches on name and specialization,
+-- weighted full-text vector over specialization (A) and bio (B)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_users_full_name_trgm ON users USING GIN (full_name gin_trgm_ops);
+CREATE INDEX idx_executor_profiles_specialization_trgm ON executor_profiles USING GIN (specialization gin_trgm_ops);
+
+ALTER TABLE executor_profiles ADD COLUMN search_vector TSVECTOR;
+
+CREATE OR REPLACE FUNCTION executor_profiles_search_vector_update() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector :=
+        setweight(to_tsvector('russian', coalesce(NEW.specialization, '')), 'A') ||
+        setweight(to_tsvector('russian', coalesce(NEW.bio, '')), 'B');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_executor_profiles_search_vector
+    BEFORE INSERT OR UPDATE OF specialization, bio ON executor_profiles
+    FOR EACH ROW EXECUTE FUNCTION executor_profiles_search_vector_update();
+
+-- Backfill existing rows
+UPDATE executor_profiles SET search_vector =
+    setweight(to_tsvector('russian', coalesce(specialization, '')), 'A') ||
+    setweight(to_tsvector('russian', coalesce(bio, '')), 'B');
+
+CREATE INDEX idx_executor_profiles_search_vector ON executor_profiles USING GIN (search_vector);
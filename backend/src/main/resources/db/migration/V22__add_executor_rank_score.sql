@@ -0,0 +1,71 @@
+-- Materialized ranking score for the executor catalogue. A trigger recomputes it on every write
+-- to executor_profiles, so all write paths keep it current, and copies it to executor_categories
+-- so per-category rankings are a single (category_id, rank_score) index range scan.
+ALTER TABLE executor_profiles ADD COLUMN rank_score DOUBLE PRECISION NOT NULL DEFAULT 0;
+ALTER TABLE executor_categories ADD COLUMN rank_score DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+-- Roughly 0..100. Keep the reputation bonus in line with ReputationLevel.calculate.
+CREATE OR REPLACE FUNCTION executor_rank_score(p executor_profiles) RETURNS DOUBLE PRECISION AS $$
+DECLARE
+    rating DOUBLE PRECISION := coalesce(p.rating, 0);
+    -- Bayesian average: few reviews are pulled towards 4.0
+    smoothed_rating DOUBLE PRECISION := (rating * p.review_count + 4.0 * 5) / (p.review_count + 5);
+    dispute_rate DOUBLE PRECISION := LEAST(1.0, p.disputed_orders::DOUBLE PRECISION / GREATEST(p.total_orders, 1));
+    idle_days DOUBLE PRECISION := CASE WHEN p.last_active_at IS NULL THEN NULL
+                                       ELSE GREATEST(0, EXTRACT(EPOCH FROM (NOW() - p.last_active_at)) / 86400) END;
+    reputation_bonus DOUBLE PRECISION := CASE
+        WHEN p.completed_orders >= 50 AND rating >= 4.5 THEN 5
+        WHEN p.completed_orders >= 20 AND rating >= 4.0 THEN 4
+        WHEN p.completed_orders >= 5 AND rating >= 3.0 THEN 2.5
+        WHEN p.completed_orders >= 1 THEN 1
+        ELSE 0 END;
+BEGIN
+    RETURN smoothed_rating / 5 * 40
+        + LEAST(1.0, ln(1 + p.completed_orders) / ln(101)) * 20
+        + LEAST(1.0, ln(1 + p.review_count) / ln(51)) * 10
+        + (1 - dispute_rate) * 15
+        + CASE WHEN idle_days IS NULL THEN 0 ELSE exp(-idle_days / 30) * 10 END
+        + reputation_bonus;
+END;
+$$ LANGUAGE plpgsql STABLE;
+
+CREATE OR REPLACE FUNCTION executor_profiles_rank_score_update() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.rank_score := executor_rank_score(NEW);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_executor_profiles_rank_score
+    BEFORE INSERT OR UPDATE ON executor_profiles
+    FOR EACH ROW EXECUTE FUNCTION executor_profiles_rank_score_update();
+
+CREATE OR REPLACE FUNCTION executor_categories_rank_score_sync() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE executor_categories SET rank_score = NEW.rank_score WHERE executor_id = NEW.user_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_executor_categories_rank_score_sync
+    AFTER UPDATE OF rank_score ON executor_profiles
+    FOR EACH ROW WHEN (OLD.rank_score IS DISTINCT FROM NEW.rank_score)
+    EXECUTE FUNCTION executor_categories_rank_score_sync();
+
+CREATE OR REPLACE FUNCTION executor_categories_rank_score_init() RETURNS TRIGGER AS $$
+BEGIN
+    SELECT rank_score INTO NEW.rank_score FROM executor_profiles WHERE user_id = NEW.executor_id;
+    NEW.rank_score := coalesce(NEW.rank_score, 0);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_executor_categories_rank_score_init
+    BEFORE INSERT ON executor_categories
+    FOR EACH ROW EXECUTE FUNCTION executor_categories_rank_score_init();
+
+-- Backfill: the BEFORE UPDATE trigger computes the score, the AFTER trigger copies it
+UPDATE executor_profiles SET rank_score = 0;
+
+CREATE INDEX idx_executor_profiles_rank_score ON executor_profiles(rank_score DESC);
+CREATE INDEX idx_executor_categories_rank ON executor_categories(category_id, rank_score DESC);
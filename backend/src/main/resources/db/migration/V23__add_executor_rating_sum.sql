@@ -0,0 +1,17 @@
+-- Running totals of visible reviews, so a review write is one atomic UPDATE instead of
+-- an AVG/COUNT over every review of the executor. rating stays as the derived average.
+ALTER TABLE executor_profiles ADD COLUMN rating_sum BIGINT NOT NULL DEFAULT 0;
+
+UPDATE executor_profiles p
+SET rating_sum = s.rating_sum,
+    review_count = s.review_count,
+    rating = ROUND(CAST(s.rating_sum AS NUMERIC) / s.review_count, 2)
+FROM (
+    SELECT executor_id, SUM(rating) AS rating_sum, COUNT(*) AS review_count
+    FROM reviews
+    WHERE is_visible = TRUE
+    GROUP BY executor_id
+) s
+WHERE p.user_id = s.executor_id;
+
+CREATE INDEX idx_reviews_executor_visible ON reviews(executor_id) INCLUDE (rating) WHERE is_visible = TRUE;
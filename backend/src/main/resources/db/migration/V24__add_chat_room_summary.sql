@@ -0,0 +1,60 @@
+-- Denormalized chat list summary. A trigger on messages keeps it current for every writer,
+-- so the chat list reads chat_rooms only instead of looking up the last message and
+-- counting unread messages per room.
+ALTER TABLE chat_rooms ADD COLUMN last_message_id BIGINT REFERENCES messages(id) ON DELETE SET NULL;
+ALTER TABLE chat_rooms ADD COLUMN last_message_preview VARCHAR(200);
+ALTER TABLE chat_rooms ADD COLUMN last_message_sender_id BIGINT REFERENCES users(id);
+ALTER TABLE chat_rooms ADD COLUMN client_unread_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE chat_rooms ADD COLUMN executor_unread_count INTEGER NOT NULL DEFAULT 0;
+
+-- Same rule as the old per-room count: a message is unread for the participant who did not send it
+CREATE OR REPLACE FUNCTION chat_rooms_message_summary() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE chat_rooms
+    SET last_message_id = NEW.id,
+        last_message_preview = left(NEW.content, 200),
+        last_message_sender_id = NEW.sender_id,
+        last_message_at = NEW.created_at,
+        client_unread_count = client_unread_count + CASE WHEN NEW.sender_id <> client_id THEN 1 ELSE 0 END,
+        executor_unread_count = executor_unread_count + CASE WHEN NEW.sender_id <> executor_id THEN 1 ELSE 0 END
+    WHERE id = NEW.chat_room_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_chat_rooms_message_summary
+    AFTER INSERT ON messages
+    FOR EACH ROW EXECUTE FUNCTION chat_rooms_message_summary();
+
+-- Backfill
+UPDATE chat_rooms c
+SET last_message_id = m.id,
+    last_message_preview = left(m.content, 200),
+    last_message_sender_id = m.sender_id,
+    last_message_at = m.created_at
+FROM (
+    SELECT DISTINCT ON (chat_room_id) id, chat_room_id, content, sender_id, created_at
+    FROM messages
+    ORDER BY chat_room_id, created_at DESC, id DESC
+) m
+WHERE m.chat_room_id = c.id;
+
+UPDATE chat_rooms c
+SET client_unread_count = u.client_unread,
+    executor_unread_count = u.executor_unread
+FROM (
+    SELECT m.chat_room_id,
+           COUNT(*) FILTER (WHERE m.sender_id <> r.client_id) AS client_unread,
+           COUNT(*) FILTER (WHERE m.sender_id <> r.executor_id) AS executor_unread
+    FROM messages m
+    JOIN chat_rooms r ON r.id = m.chat_room_id
+    WHERE m.is_read = FALSE
+    GROUP BY m.chat_room_id
+) u
+WHERE u.chat_room_id = c.id;
+
+-- The chat list of a user is read per participant column in last message order
+DROP INDEX idx_chat_rooms_client;
+DROP INDEX idx_chat_rooms_executor;
+CREATE INDEX idx_chat_rooms_client ON chat_rooms(client_id, last_message_at DESC NULLS LAST);
+CREATE INDEX idx_chat_rooms_executor ON chat_rooms(executor_id, last_message_at DESC NULLS LAST);
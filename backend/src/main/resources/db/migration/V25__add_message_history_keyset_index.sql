@@ -0,0 +1,2 @@
+-- Keyset index for message history: seeks on (chat_room_id, id) in both directions without OFFSET or COUNT
+CREATE INDEX idx_messages_chat_room_id ON messages(chat_room_id, id DESC);
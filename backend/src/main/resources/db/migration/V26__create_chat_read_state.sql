@@ -0,0 +1,44 @@
+-- Read cursors: one row per participant and room instead of an is_read flag on every message.
+-- A message is read by a participant when its id is at or below their last_read_message_id.
+CREATE TABLE chat_read_state (
+    chat_room_id BIGINT NOT NULL REFERENCES chat_rooms(id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    last_read_message_id BIGINT NOT NULL DEFAULT 0,
+    read_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (chat_room_id, user_id)
+);
+
+-- Backfill: the cursor sits right before the oldest unread message from the other side, or at the newest message
+INSERT INTO chat_read_state (chat_room_id, user_id, last_read_message_id)
+SELECT p.chat_room_id, p.user_id,
+       COALESCE(
+           (SELECT MIN(m.id) - 1 FROM messages m
+            WHERE m.chat_room_id = p.chat_room_id AND m.sender_id <> p.user_id AND m.is_read = FALSE),
+           (SELECT MAX(m.id) FROM messages m WHERE m.chat_room_id = p.chat_room_id),
+           0)
+FROM (
+    SELECT id AS chat_room_id, client_id AS user_id FROM chat_rooms
+    UNION
+    SELECT id, executor_id FROM chat_rooms
+) p;
+
+DROP INDEX idx_messages_unread;
+ALTER TABLE messages DROP COLUMN is_read;
+
+-- Message ids are taken before the room row is locked, so a slower insert may carry a smaller id;
+-- it still counts as unread but must not move the last message, and with it the read cursor, backwards
+CREATE OR REPLACE FUNCTION chat_rooms_message_summary() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE chat_rooms
+    SET last_message_id = GREATEST(NEW.id, coalesce(last_message_id, 0)),
+        last_message_preview = CASE WHEN NEW.id > coalesce(last_message_id, 0)
+                                    THEN left(NEW.content, 200) ELSE last_message_preview END,
+        last_message_sender_id = CASE WHEN NEW.id > coalesce(last_message_id, 0)
+                                      THEN NEW.sender_id ELSE last_message_sender_id END,
+        last_message_at = GREATEST(NEW.created_at, last_message_at),
+        client_unread_count = client_unread_count + CASE WHEN NEW.sender_id <> client_id THEN 1 ELSE 0 END,
+        executor_unread_count = executor_unread_count + CASE WHEN NEW.sender_id <> executor_id THEN 1 ELSE 0 END
+    WHERE id = NEW.chat_room_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,61 @@
+-- Chat room summary per statement instead of per row: a multi-row insert updates each room once.
+-- Writers that insert in several statements (the batched chat ingestion) defer the trigger for their
+-- transaction with app.chat_summary_deferred and apply the summary once per batch themselves.
+CREATE OR REPLACE FUNCTION chat_rooms_apply_messages(message_ids BIGINT[]) RETURNS INTEGER AS $$
+DECLARE
+    updated INTEGER;
+BEGIN
+    -- Lock the rooms in id order so concurrent batches spanning several rooms cannot deadlock.
+    -- NO KEY UPDATE, like a plain UPDATE of non-key columns: it must not conflict with the KEY SHARE
+    -- lock that every concurrent message insert holds on its room through the foreign key check
+    PERFORM 1 FROM chat_rooms
+    WHERE id IN (SELECT chat_room_id FROM messages WHERE id = ANY(message_ids))
+    ORDER BY id
+    FOR NO KEY UPDATE;
+
+    -- A message with a smaller id may commit after a newer one; it still counts as unread
+    -- but must not move the last message, and with it the read cursor, backwards
+    UPDATE chat_rooms c
+    SET last_message_id = GREATEST(b.last_id, coalesce(c.last_message_id, 0)),
+        last_message_preview = CASE WHEN b.last_id > coalesce(c.last_message_id, 0)
+                                    THEN b.preview ELSE c.last_message_preview END,
+        last_message_sender_id = CASE WHEN b.last_id > coalesce(c.last_message_id, 0)
+                                      THEN b.sender_id ELSE c.last_message_sender_id END,
+        last_message_at = GREATEST(b.last_at, c.last_message_at),
+        client_unread_count = c.client_unread_count
+            + (SELECT COUNT(*) FROM messages m
+               WHERE m.id = ANY(message_ids) AND m.chat_room_id = c.id AND m.sender_id <> c.client_id),
+        executor_unread_count = c.executor_unread_count
+            + (SELECT COUNT(*) FROM messages m
+               WHERE m.id = ANY(message_ids) AND m.chat_room_id = c.id AND m.sender_id <> c.executor_id)
+    FROM (
+        SELECT DISTINCT ON (chat_room_id) chat_room_id, id AS last_id, left(content, 200) AS preview,
+               sender_id, created_at AS last_at
+        FROM messages
+        WHERE id = ANY(message_ids)
+        ORDER BY chat_room_id, id DESC
+    ) b
+    WHERE c.id = b.chat_room_id;
+
+    GET DIAGNOSTICS updated = ROW_COUNT;
+    RETURN updated;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION chat_rooms_messages_summary() RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('app.chat_summary_deferred', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+    PERFORM chat_rooms_apply_messages(ARRAY(SELECT id FROM inserted));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER trg_chat_rooms_message_summary ON messages;
+DROP FUNCTION chat_rooms_message_summary();
+
+CREATE TRIGGER trg_chat_rooms_messages_summary
+    AFTER INSERT ON messages
+    REFERENCING NEW TABLE AS inserted
+    FOR EACH STATEMENT EXECUTE FUNCTION chat_rooms_messages_summary();
@@ -0,0 +1,16 @@
+-- An UPDATE OF rank_score trigger only fires when the statement names rank_score in SET, which the
+-- counter increments and Hibernate updates never do (the column is not updatable from the entity).
+-- Fire on every update and let the WHEN guard skip rows whose score the BEFORE trigger left unchanged.
+DROP TRIGGER trg_executor_categories_rank_score_sync ON executor_profiles;
+
+CREATE TRIGGER trg_executor_categories_rank_score_sync
+    AFTER UPDATE ON executor_profiles
+    FOR EACH ROW WHEN (OLD.rank_score IS DISTINCT FROM NEW.rank_score)
+    EXECUTE FUNCTION executor_categories_rank_score_sync();
+
+-- Catch up on the scores that drifted while the trigger was not firing
+UPDATE executor_categories ec
+SET rank_score = ep.rank_score
+FROM executor_profiles ep
+WHERE ep.user_id = ec.executor_id
+  AND ec.rank_score IS DISTINCT FROM ep.rank_score;
@@ -0,0 +1,62 @@
+-- Unread counters follow the read cursors: a message is unread for a participant exactly when its id is
+-- above their last_read_message_id. A message that commits late with an id already at or below the cursor
+-- was covered by markRead and is reported as read, so it must not be added to the counter either.
+-- The room rows are locked before the cursors are read, and markRead holds the same lock while it moves
+-- a cursor, so each batch sees the cursor as of the last committed markRead.
+CREATE OR REPLACE FUNCTION chat_rooms_apply_messages(message_ids BIGINT[]) RETURNS INTEGER AS $$
+DECLARE
+    updated INTEGER;
+BEGIN
+    -- Lock the rooms in id order so concurrent batches spanning several rooms cannot deadlock.
+    -- NO KEY UPDATE, like a plain UPDATE of non-key columns: it must not conflict with the KEY SHARE
+    -- lock that every concurrent message insert holds on its room through the foreign key check
+    PERFORM 1 FROM chat_rooms
+    WHERE id IN (SELECT chat_room_id FROM messages WHERE id = ANY(message_ids))
+    ORDER BY id
+    FOR NO KEY UPDATE;
+
+    -- A message with a smaller id may commit after a newer one; it must not move the last message,
+    -- and with it the read cursor, backwards
+    UPDATE chat_rooms c
+    SET last_message_id = GREATEST(b.last_id, coalesce(c.last_message_id, 0)),
+        last_message_preview = CASE WHEN b.last_id > coalesce(c.last_message_id, 0)
+                                    THEN b.preview ELSE c.last_message_preview END,
+        last_message_sender_id = CASE WHEN b.last_id > coalesce(c.last_message_id, 0)
+                                      THEN b.sender_id ELSE c.last_message_sender_id END,
+        last_message_at = GREATEST(b.last_at, c.last_message_at),
+        client_unread_count = c.client_unread_count
+            + (SELECT COUNT(*) FROM messages m
+               WHERE m.id = ANY(message_ids) AND m.chat_room_id = c.id AND m.sender_id <> c.client_id
+                 AND m.id > coalesce((SELECT r.last_read_message_id FROM chat_read_state r
+                                      WHERE r.chat_room_id = c.id AND r.user_id = c.client_id), 0)),
+        executor_unread_count = c.executor_unread_count
+            + (SELECT COUNT(*) FROM messages m
+               WHERE m.id = ANY(message_ids) AND m.chat_room_id = c.id AND m.sender_id <> c.executor_id
+                 AND m.id > coalesce((SELECT r.last_read_message_id FROM chat_read_state r
+                                      WHERE r.chat_room_id = c.id AND r.user_id = c.executor_id), 0))
+    FROM (
+        SELECT DISTINCT ON (chat_room_id) chat_room_id, id AS last_id, left(content, 200) AS preview,
+               sender_id, created_at AS last_at
+        FROM messages
+        WHERE id = ANY(message_ids)
+        ORDER BY chat_room_id, id DESC
+    ) b
+    WHERE c.id = b.chat_room_id;
+
+    GET DIAGNOSTICS updated = ROW_COUNT;
+    RETURN updated;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Recount so existing counters no longer include late messages under the cursor
+UPDATE chat_rooms c
+SET client_unread_count = (
+        SELECT COUNT(*) FROM messages m
+        WHERE m.chat_room_id = c.id AND m.sender_id <> c.client_id
+          AND m.id > coalesce((SELECT r.last_read_message_id FROM chat_read_state r
+                               WHERE r.chat_room_id = c.id AND r.user_id = c.client_id), 0)),
+    executor_unread_count = (
+        SELECT COUNT(*) FROM messages m
+        WHERE m.chat_room_id = c.id AND m.sender_id <> c.executor_id
+          AND m.id > coalesce((SELECT r.last_read_message_id FROM chat_read_state r
+                               WHERE r.chat_room_id = c.id AND r.user_id = c.executor_id), 0));
@@ -3,6 +3,7 @@ package kg.freelance.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kg.freelance.dto.request.ChatMessageRequest;
 import kg.freelance.dto.response.ChatRoomResponse;
+import kg.freelance.dto.response.CursorPageResponse;
 import kg.freelance.dto.response.MessageResponse;
 import kg.freelance.dto.response.PageResponse;
 import kg.freelance.entity.enums.UserRole;
@@ -71,7 +72,7 @@ class ChatControllerTest {
         void shouldReturnMyChatRooms() throws Exception {
             PageResponse<ChatRoomResponse> page = PageResponse.<ChatRoomResponse>builder()
                     .content(List.of()).page(0).size(20)
-                    .totalElements(0).totalPages(0).first(true).last(true).build();
+                    .totalElements(0L).totalPages(0).first(true).last(true).build();
 
             when(chatService.getMyChatRooms(eq(1L), any())).thenReturn(page);
 
@@ -145,7 +146,7 @@ class ChatControllerTest {
         void shouldReturnMessages() throws Exception {
             PageResponse<MessageResponse> page = PageResponse.<MessageResponse>builder()
                     .content(List.of()).page(0).size(50)
-                    .totalElements(0).totalPages(0).first(true).last(true).build();
+                    .totalElements(0L).totalPages(0).first(true).last(true).build();
 
             when(chatService.getChatMessages(eq(1L), eq(1L), any())).thenReturn(page);
 
@@ -154,6 +155,39 @@ class ChatControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/chats/{id}/messages/history")
+    class GetMessageHistoryTests {
+
+        @Test
+        @DisplayName("Should return messages before the cursor")
+        void shouldReturnMessagesBeforeCursor() throws Exception {
+            CursorPageResponse<MessageResponse> page = CursorPageResponse.<MessageResponse>builder()
+                    .content(List.of(MessageResponse.builder().id(99L).build()))
+                    .size(20).hasNext(true).nextCursor("99").build();
+
+            when(chatService.getMessageHistory(1L, 1L, 100L, null, 20)).thenReturn(page);
+
+            mockMvc.perform(get("/api/v1/chats/1/messages/history").param("before", "100").param("limit", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(99))
+                    .andExpect(jsonPath("$.nextCursor").value("99"));
+        }
+
+        @Test
+        @DisplayName("Should return messages after the cursor")
+        void shouldReturnMessagesAfterCursor() throws Exception {
+            CursorPageResponse<MessageResponse> page = CursorPageResponse.<MessageResponse>builder()
+                    .content(List.of()).size(50).hasNext(false).build();
+
+            when(chatService.getMessageHistory(1L, 1L, null, 10L, 50)).thenReturn(page);
+
+            mockMvc.perform(get("/api/v1/chats/1/messages/history").param("after", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hasNext").value(false));
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/v1/chats/{id}/messages")
     class SendMessageTests {
@@ -0,0 +1,78 @@
+package kg.freelance.controller;
+
+import kg.freelance.config.RateLimitConfig;
+import kg.freelance.config.SecurityConfig;
+import kg.freelance.dto.response.ExecutorPageResponse;
+import kg.freelance.dto.response.ExecutorResponse;
+import kg.freelance.dto.response.PageResponse;
+import kg.freelance.dto.response.ReviewResponse;
+import kg.freelance.security.jwt.JwtAuthenticationEntryPoint;
+import kg.freelance.security.jwt.JwtTokenProvider;
+import kg.freelance.service.ExecutorPageCache;
+import kg.freelance.service.ExecutorService;
+import kg.freelance.service.PresenceTracker;
+import kg.freelance.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs requests through the real security filter chain, which the standalone controller tests bypass.
+ */
+@WebMvcTest(controllers = ExecutorController.class, excludeAutoConfiguration = OAuth2ClientAutoConfiguration.class)
+@Import({SecurityConfig.class, RateLimitConfig.class, JwtAuthenticationEntryPoint.class})
+@DisplayName("ExecutorController Security Tests")
+class ExecutorControllerSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExecutorService executorService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private PresenceTracker presenceTracker;
+
+    @Test
+    @DisplayName("Should serve the executor page to anonymous visitors")
+    void shouldPermitAnonymousExecutorPage() throws Exception {
+        // Given
+        ExecutorPageResponse response = ExecutorPageResponse.builder()
+                .profile(ExecutorResponse.builder().id(1L).fullName("Executor User").categories(List.of()).build())
+                .reviews(PageResponse.<ReviewResponse>builder().content(List.of()).page(0).size(10).build())
+                .portfolio(List.of())
+                .build();
+        when(executorService.getExecutorPage(1L)).thenReturn(new ExecutorPageCache.ExecutorPage(response, "\"abc123\""));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/executors/1/page"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.profile.fullName").value("Executor User"));
+    }
+
+    @Test
+    @DisplayName("Should still require authentication for the executor's own profile")
+    void shouldRejectAnonymousOwnProfile() throws Exception {
+        mockMvc.perform(put("/api/v1/executors/me/profile"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(executorService);
+    }
+}
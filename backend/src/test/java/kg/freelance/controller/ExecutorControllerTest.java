@@ -7,6 +7,7 @@ import kg.freelance.entity.enums.UserRole;
 import kg.freelance.exception.GlobalExceptionHandler;
 import kg.freelance.exception.ResourceNotFoundException;
 import kg.freelance.security.UserPrincipal;
+import kg.freelance.service.ExecutorPageCache;
 import kg.freelance.service.ExecutorService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -82,7 +83,7 @@ class ExecutorControllerTest {
                     .completedOrders(10).availableForWork(true).categories(List.of()).build();
             PageResponse<ExecutorListResponse> page = PageResponse.<ExecutorListResponse>builder()
                     .content(List.of(executor)).page(0).size(20)
-                    .totalElements(1).totalPages(1).first(true).last(true).build();
+                    .totalElements(1L).totalPages(1).first(true).last(true).build();
 
             when(executorService.getExecutors(any(), any(), any(), any(), any())).thenReturn(page);
 
@@ -97,7 +98,7 @@ class ExecutorControllerTest {
         void shouldApplyFilters() throws Exception {
             PageResponse<ExecutorListResponse> page = PageResponse.<ExecutorListResponse>builder()
                     .content(List.of()).page(0).size(10)
-                    .totalElements(0).totalPages(0).first(true).last(true).build();
+                    .totalElements(0L).totalPages(0).first(true).last(true).build();
 
             when(executorService.getExecutors(any(), any(), any(), any(), any())).thenReturn(page);
 
@@ -218,7 +219,7 @@ class ExecutorControllerTest {
         void shouldReturnReviews() throws Exception {
             PageResponse<ReviewResponse> page = PageResponse.<ReviewResponse>builder()
                     .content(List.of()).page(0).size(10)
-                    .totalElements(0).totalPages(0).first(true).last(true).build();
+                    .totalElements(0L).totalPages(0).first(true).last(true).build();
 
             when(executorService.getExecutorReviews(eq(1L), any())).thenReturn(page);
 
@@ -244,4 +245,40 @@ class ExecutorControllerTest {
                     .andExpect(jsonPath("$[0].title").value("Project"));
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/v1/executors/{id}/page")
+    class GetExecutorPageTests {
+
+        private ExecutorPageCache.ExecutorPage page() {
+            ExecutorPageResponse response = ExecutorPageResponse.builder()
+                    .profile(buildExecutorResponse())
+                    .reviews(PageResponse.<ReviewResponse>builder().content(List.of()).page(0).size(10).build())
+                    .portfolio(List.of())
+                    .build();
+            return new ExecutorPageCache.ExecutorPage(response, "\"abc123\"");
+        }
+
+        @Test
+        @DisplayName("Should return executor page with ETag")
+        void shouldReturnPageWithEtag() throws Exception {
+            when(executorService.getExecutorPage(1L)).thenReturn(page());
+
+            mockMvc.perform(get("/api/v1/executors/1/page"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"abc123\""))
+                    .andExpect(jsonPath("$.profile.fullName").value("Executor User"))
+                    .andExpect(jsonPath("$.portfolio").isArray());
+        }
+
+        @Test
+        @DisplayName("Should answer 304 when the ETag matches")
+        void shouldReturnNotModified() throws Exception {
+            when(executorService.getExecutorPage(1L)).thenReturn(page());
+
+            mockMvc.perform(get("/api/v1/executors/1/page").header("If-None-Match", "\"abc123\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+    }
 }
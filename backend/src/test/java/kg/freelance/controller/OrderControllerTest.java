@@ -90,9 +90,9 @@ class OrderControllerTest {
                     .id(1L).title("Test Order").status(OrderStatus.NEW).build();
             PageResponse<OrderListResponse> page = PageResponse.<OrderListResponse>builder()
                     .content(List.of(order)).page(0).size(20)
-                    .totalElements(1).totalPages(1).first(true).last(true).build();
+                    .totalElements(1L).totalPages(1).first(true).last(true).build();
 
-            when(orderService.getPublicOrders(any(), any(), any(), any(), any(), any(), any()))
+            when(orderService.getPublicOrders(any(), any(), any(), any(), any(), any(), any(), any()))
                     .thenReturn(page);
 
             mockMvc.perform(get("/api/v1/orders"))
@@ -106,9 +106,9 @@ class OrderControllerTest {
         void shouldPassFilterParamsCorrectly() throws Exception {
             PageResponse<OrderListResponse> page = PageResponse.<OrderListResponse>builder()
                     .content(List.of()).page(0).size(20)
-                    .totalElements(0).totalPages(0).first(true).last(true).build();
+                    .totalElements(0L).totalPages(0).first(true).last(true).build();
 
-            when(orderService.getPublicOrders(any(), any(), any(), any(), any(), any(), any()))
+            when(orderService.getPublicOrders(any(), any(), any(), any(), any(), any(), any(), any()))
                     .thenReturn(page);
 
             mockMvc.perform(get("/api/v1/orders")
@@ -123,7 +123,31 @@ class OrderControllerTest {
 
             verify(orderService).getPublicOrders(
                     eq(5L), eq(BigDecimal.valueOf(1000)), eq(BigDecimal.valueOf(5000)),
-                    eq("web"), isNull(), eq(1L), any());
+                    eq("web"), isNull(), isNull(), eq(1L), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/orders/feed")
+    class GetPublicOrdersFeedTests {
+
+        @Test
+        @DisplayName("Should return cursor page without totals")
+        void shouldReturnCursorPage() throws Exception {
+            OrderListResponse order = OrderListResponse.builder()
+                    .id(1L).title("Test Order").status(OrderStatus.NEW).build();
+            CursorPageResponse<OrderListResponse> page = CursorPageResponse.<OrderListResponse>builder()
+                    .content(List.of(order)).size(20).hasNext(true).nextCursor("abc").build();
+
+            when(orderService.getPublicOrdersFeed(any(), any(), any(), any(), any(), any(), any(), eq("prev"), eq(20)))
+                    .thenReturn(page);
+
+            mockMvc.perform(get("/api/v1/orders/feed").param("cursor", "prev"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].title").value("Test Order"))
+                    .andExpect(jsonPath("$.nextCursor").value("abc"))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
         }
     }
 
@@ -293,7 +317,7 @@ class OrderControllerTest {
         void shouldGetMyOrdersAsClient() throws Exception {
             PageResponse<OrderListResponse> page = PageResponse.<OrderListResponse>builder()
                     .content(List.of()).page(0).size(20)
-                    .totalElements(0).totalPages(0).first(true).last(true).build();
+                    .totalElements(0L).totalPages(0).first(true).last(true).build();
 
             when(orderService.getMyOrdersAsClient(eq(1L), any())).thenReturn(page);
 
@@ -306,7 +330,7 @@ class OrderControllerTest {
         void shouldGetMyOrdersAsExecutor() throws Exception {
             PageResponse<OrderListResponse> page = PageResponse.<OrderListResponse>builder()
                     .content(List.of()).page(0).size(20)
-                    .totalElements(0).totalPages(0).first(true).last(true).build();
+                    .totalElements(0L).totalPages(0).first(true).last(true).build();
 
             when(orderService.getMyOrdersAsExecutor(eq(1L), any())).thenReturn(page);
 
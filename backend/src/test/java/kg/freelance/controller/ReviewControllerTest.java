@@ -176,7 +176,7 @@ class ReviewControllerTest {
         void shouldReturnExecutorReviewsWithPagination() throws Exception {
             PageResponse<ReviewResponse> pageResponse = PageResponse.<ReviewResponse>builder()
                     .content(List.of(buildReviewResponse()))
-                    .page(0).size(10).totalElements(1).totalPages(1)
+                    .page(0).size(10).totalElements(1L).totalPages(1)
                     .first(true).last(true).build();
 
             when(reviewService.getExecutorReviews(eq(2L), any())).thenReturn(pageResponse);
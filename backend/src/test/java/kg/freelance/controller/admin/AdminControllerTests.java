@@ -88,7 +88,7 @@ class AdminControllerTests {
         void shouldReturnUsers() throws Exception {
             PageResponse<AdminUserResponse> page = PageResponse.<AdminUserResponse>builder()
                     .content(List.of()).page(0).size(20)
-                    .totalElements(0).totalPages(0).first(true).last(true).build();
+                    .totalElements(0L).totalPages(0).first(true).last(true).build();
 
             when(adminService.getAllUsers(any(), any(), any(), any())).thenReturn(page);
 
@@ -164,7 +164,7 @@ class AdminControllerTests {
         void shouldReturnOrders() throws Exception {
             PageResponse<AdminOrderResponse> page = PageResponse.<AdminOrderResponse>builder()
                     .content(List.of()).page(0).size(20)
-                    .totalElements(0).totalPages(0).first(true).last(true).build();
+                    .totalElements(0L).totalPages(0).first(true).last(true).build();
 
             when(adminService.getAllOrders(any(), any(), any())).thenReturn(page);
 
@@ -177,7 +177,7 @@ class AdminControllerTests {
         void shouldReturnDisputedOrders() throws Exception {
             PageResponse<AdminOrderResponse> page = PageResponse.<AdminOrderResponse>builder()
                     .content(List.of()).page(0).size(20)
-                    .totalElements(0).totalPages(0).first(true).last(true).build();
+                    .totalElements(0L).totalPages(0).first(true).last(true).build();
 
             when(adminService.getDisputedOrders(any())).thenReturn(page);
 
@@ -325,7 +325,7 @@ class AdminControllerTests {
         void shouldReturnReviews() throws Exception {
             PageResponse<AdminReviewResponse> page = PageResponse.<AdminReviewResponse>builder()
                     .content(List.of()).page(0).size(20)
-                    .totalElements(0).totalPages(0).first(true).last(true).build();
+                    .totalElements(0L).totalPages(0).first(true).last(true).build();
 
             when(adminService.getAllReviews(any(), any())).thenReturn(page);
 
@@ -382,7 +382,7 @@ class AdminControllerTests {
         void shouldReturnVerifications() throws Exception {
             PageResponse<AdminVerificationResponse> page = PageResponse.<AdminVerificationResponse>builder()
                     .content(List.of()).page(0).size(20)
-                    .totalElements(0).totalPages(0).first(true).last(true).build();
+                    .totalElements(0L).totalPages(0).first(true).last(true).build();
 
             when(verificationService.getAllVerifications(any())).thenReturn(page);
 
@@ -89,7 +89,7 @@ class AdminDisputeControllerTest {
         void shouldGetAllDisputes() throws Exception {
             PageResponse<DisputeResponse> page = PageResponse.<DisputeResponse>builder()
                     .content(List.of(buildDisputeResponse(DisputeStatus.OPEN)))
-                    .page(0).size(20).totalElements(1).totalPages(1).first(true).last(true).build();
+                    .page(0).size(20).totalElements(1L).totalPages(1).first(true).last(true).build();
 
             when(disputeService.getAllDisputes(isNull(), any())).thenReturn(page);
 
@@ -104,7 +104,7 @@ class AdminDisputeControllerTest {
         void shouldFilterByStatus() throws Exception {
             PageResponse<DisputeResponse> page = PageResponse.<DisputeResponse>builder()
                     .content(List.of(buildDisputeResponse(DisputeStatus.OPEN)))
-                    .page(0).size(20).totalElements(1).totalPages(1).first(true).last(true).build();
+                    .page(0).size(20).totalElements(1L).totalPages(1).first(true).last(true).build();
 
             when(disputeService.getAllDisputes(eq("OPEN"), any())).thenReturn(page);
 
@@ -124,7 +124,7 @@ class AdminDisputeControllerTest {
         void shouldGetActiveDisputes() throws Exception {
             PageResponse<DisputeResponse> page = PageResponse.<DisputeResponse>builder()
                     .content(List.of(buildDisputeResponse(DisputeStatus.OPEN)))
-                    .page(0).size(20).totalElements(1).totalPages(1).first(true).last(true).build();
+                    .page(0).size(20).totalElements(1L).totalPages(1).first(true).last(true).build();
 
             when(disputeService.getActiveDisputes(any())).thenReturn(page);
 
@@ -307,7 +307,7 @@ class AdminDisputeControllerTest {
 
             PageResponse<MessageResponse> page = PageResponse.<MessageResponse>builder()
                     .content(List.of(msg)).page(0).size(100)
-                    .totalElements(1).totalPages(1).first(true).last(true).build();
+                    .totalElements(1L).totalPages(1).first(true).last(true).build();
 
             when(disputeService.getDisputeMessages(eq(1L), any())).thenReturn(page);
 
@@ -322,7 +322,7 @@ class AdminDisputeControllerTest {
         void shouldReturnEmptyWhenNoMessages() throws Exception {
             PageResponse<MessageResponse> page = PageResponse.<MessageResponse>builder()
                     .content(List.of()).page(0).size(100)
-                    .totalElements(0).totalPages(0).first(true).last(true).build();
+                    .totalElements(0L).totalPages(0).first(true).last(true).build();
 
             when(disputeService.getDisputeMessages(eq(1L), any())).thenReturn(page);
 
@@ -0,0 +1,88 @@
+package kg.freelance.repository;
+
+import kg.freelance.entity.ChatReadState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ChatReadStateRepository Tests")
+class ChatReadStateRepositoryTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private ChatReadStateRepository chatReadStateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long clientId;
+    private Long executorId;
+    private Long chatRoomId;
+
+    @BeforeEach
+    void setUp() {
+        clientId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, full_name) VALUES ('client@example.com', 'Client') RETURNING id", Long.class);
+        executorId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, full_name) VALUES ('executor@example.com', 'Executor') RETURNING id", Long.class);
+        Long categoryId = jdbcTemplate.queryForObject(
+                "INSERT INTO categories (name, slug) VALUES ('Test Category', 'test-category') RETURNING id", Long.class);
+        Long orderId = jdbcTemplate.queryForObject("""
+                INSERT INTO orders (title, description, category_id, client_id)
+                VALUES ('Order', 'Description', ?, ?) RETURNING id
+                """, Long.class, categoryId, clientId);
+        chatRoomId = jdbcTemplate.queryForObject(
+                "INSERT INTO chat_rooms (order_id, client_id, executor_id) VALUES (?, ?, ?) RETURNING id",
+                Long.class, orderId, clientId, executorId);
+    }
+
+    private Long insertMessage(Long id) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO messages (id, chat_room_id, sender_id, content)
+                VALUES (COALESCE(CAST(? AS BIGINT), nextval('messages_id_seq')), ?, ?, 'Hello') RETURNING id
+                """, Long.class, id, chatRoomId, executorId);
+    }
+
+    private int clientUnreadCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT client_unread_count FROM chat_rooms WHERE id = ?", Integer.class, chatRoomId);
+    }
+
+    @Test
+    @DisplayName("Should not count a late message whose id is already under the read cursor")
+    void shouldNotCountLateMessageUnderCursor() {
+        // Given - a slower writer took its id before the message the client then read
+        Long lateId = jdbcTemplate.queryForObject("SELECT nextval('messages_id_seq')", Long.class);
+        insertMessage(null);
+        chatReadStateRepository.markRead(chatRoomId, clientId);
+
+        // When
+        insertMessage(lateId);
+
+        // Then - counter and read flag agree
+        List<ChatReadState> states = chatReadStateRepository.findByChatRoomId(chatRoomId);
+        assertThat(clientUnreadCount()).isZero();
+        assertThat(ChatReadState.isRead(states, lateId, executorId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should count messages above the read cursor as unread")
+    void shouldCountMessagesAboveCursor() {
+        // Given
+        insertMessage(null);
+        chatReadStateRepository.markRead(chatRoomId, clientId);
+
+        // When
+        Long newId = insertMessage(null);
+
+        // Then
+        List<ChatReadState> states = chatReadStateRepository.findByChatRoomId(chatRoomId);
+        assertThat(clientUnreadCount()).isEqualTo(1);
+        assertThat(ChatReadState.isRead(states, newId, executorId)).isFalse();
+    }
+}
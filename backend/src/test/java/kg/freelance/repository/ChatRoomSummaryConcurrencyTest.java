@@ -0,0 +1,126 @@
+package kg.freelance.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Two writers in one room, each in its own committed transaction, as the batched ingestion and a
+ * synchronous send run in production.
+ */
+@DisplayName("Chat room summary concurrency Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChatRoomSummaryConcurrencyTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long clientId;
+    private Long executorId;
+    private Long categoryId;
+    private Long orderId;
+    private Long chatRoomId;
+
+    @BeforeEach
+    void setUp() {
+        clientId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, full_name) VALUES ('client@example.com', 'Client') RETURNING id", Long.class);
+        executorId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, full_name) VALUES ('executor@example.com', 'Executor') RETURNING id", Long.class);
+        categoryId = jdbcTemplate.queryForObject(
+                "INSERT INTO categories (name, slug) VALUES ('Test Category', 'test-category') RETURNING id", Long.class);
+        orderId = jdbcTemplate.queryForObject("""
+                INSERT INTO orders (title, description, category_id, client_id)
+                VALUES ('Order', 'Description', ?, ?) RETURNING id
+                """, Long.class, categoryId, clientId);
+        chatRoomId = jdbcTemplate.queryForObject(
+                "INSERT INTO chat_rooms (order_id, client_id, executor_id) VALUES (?, ?, ?) RETURNING id",
+                Long.class, orderId, clientId, executorId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM chat_rooms WHERE id = ?", chatRoomId);
+        jdbcTemplate.update("DELETE FROM orders WHERE id = ?", orderId);
+        jdbcTemplate.update("DELETE FROM categories WHERE id = ?", categoryId);
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (?, ?)", clientId, executorId);
+    }
+
+    private Connection openTransaction() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            // A lock conflict fails the test instead of hanging it
+            statement.execute("SET LOCAL lock_timeout = '5s'");
+        }
+        return connection;
+    }
+
+    private long insertMessage(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO messages (chat_room_id, sender_id, content) VALUES (?, ?, 'Hello') RETURNING id")) {
+            statement.setLong(1, chatRoomId);
+            statement.setLong(2, clientId);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should not deadlock a batched insert against a synchronous send to the same room")
+    void shouldNotDeadlockConcurrentInsertsIntoOneRoom() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try (Connection batch = openTransaction(); Connection send = openTransaction()) {
+            // Given - the batch writer has inserted with the summary deferred, holding the room's FK share lock
+            try (Statement statement = batch.createStatement()) {
+                statement.execute("SELECT set_config('app.chat_summary_deferred', 'on', true)");
+            }
+            long batchId = insertMessage(batch);
+
+            // When - a synchronous send runs the statement trigger, then the batch applies its summary
+            long sendId = pool.submit(() -> insertMessage(send)).get(10, TimeUnit.SECONDS);
+            Future<?> applied = pool.submit(() -> {
+                try (Statement statement = batch.createStatement()) {
+                    statement.execute("SELECT chat_rooms_apply_messages(ARRAY[" + batchId + "]::BIGINT[])");
+                }
+                return null;
+            });
+            send.commit();
+            applied.get(10, TimeUnit.SECONDS);
+            batch.commit();
+
+            // Then - both transactions committed and both messages are counted once
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT executor_unread_count FROM chat_rooms WHERE id = ?", Integer.class, chatRoomId))
+                    .isEqualTo(2);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT last_message_id FROM chat_rooms WHERE id = ?", Long.class, chatRoomId))
+                    .isEqualTo(Math.max(batchId, sendId));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
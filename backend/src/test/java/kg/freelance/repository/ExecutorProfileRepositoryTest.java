@@ -0,0 +1,133 @@
+package kg.freelance.repository;
+
+import kg.freelance.entity.ExecutorProfile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExecutorProfileRepository Tests")
+class ExecutorProfileRepositoryTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private ExecutorProfileRepository executorProfileRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long executorId;
+
+    @BeforeEach
+    void setUp() {
+        executorId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (email, full_name, executor_verified)
+                VALUES ('executor@example.com', 'Test Executor', true) RETURNING id
+                """, Long.class);
+        jdbcTemplate.update("INSERT INTO executor_profiles (user_id, specialization) VALUES (?, 'Design')", executorId);
+        Long categoryId = jdbcTemplate.queryForObject(
+                "INSERT INTO categories (name, slug) VALUES ('Test Category', 'test-category') RETURNING id", Long.class);
+        jdbcTemplate.update("INSERT INTO executor_categories (executor_id, category_id) VALUES (?, ?)",
+                executorId, categoryId);
+    }
+
+    // Rolled back already in transactional tests, needed for the ones that commit
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", executorId);
+        jdbcTemplate.update("DELETE FROM categories WHERE slug = 'test-category'");
+    }
+
+    private double profileRankScore() {
+        return jdbcTemplate.queryForObject(
+                "SELECT rank_score FROM executor_profiles WHERE user_id = ?", Double.class, executorId);
+    }
+
+    private double categoryRankScore() {
+        return jdbcTemplate.queryForObject(
+                "SELECT rank_score FROM executor_categories WHERE executor_id = ?", Double.class, executorId);
+    }
+
+    @Test
+    @DisplayName("Should copy the recomputed rank score to executor categories on a counter increment")
+    void shouldSyncCategoryRankScoreOnIncrement() {
+        // Given
+        double before = categoryRankScore();
+
+        // When
+        int updated = executorProfileRepository.incrementCompletedOrders(executorId, 3);
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(profileRankScore()).isGreaterThan(before);
+        assertThat(categoryRankScore()).isEqualTo(profileRankScore());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should not lose completions committed concurrently")
+    void shouldNotLoseConcurrentCompletions() throws Exception {
+        // Given
+        int approvals = 64;
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When - each approval commits its own increment, as approveWork does
+        for (int i = 0; i < approvals; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return transaction.execute(status -> executorProfileRepository.incrementCompletedOrders(executorId, 2));
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT completed_orders FROM executor_profiles WHERE user_id = ?", Integer.class, executorId))
+                .isEqualTo(approvals);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT avg_completion_days FROM executor_profiles WHERE user_id = ?", Double.class, executorId))
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should find executors by name, specialization or full-text match")
+    void shouldSearchAcrossNameAndProfile() {
+        // Given
+        PageRequest page = PageRequest.of(0, 10);
+
+        // When/Then
+        assertThat(executorProfileRepository.searchExecutors(null, null, false, "executor", page))
+                .extracting(ExecutorProfile::getId).containsExactly(executorId);
+        assertThat(executorProfileRepository.searchExecutors(null, null, false, "desig", page))
+                .extracting(ExecutorProfile::getId).containsExactly(executorId);
+        assertThat(executorProfileRepository.searchExecutors(null, null, false, "plumbing", page)).isEmpty();
+        assertThat(executorProfileRepository.searchExecutors(null, null, false, "executor", page).getTotalElements())
+                .isEqualTo(1);
+    }
+}
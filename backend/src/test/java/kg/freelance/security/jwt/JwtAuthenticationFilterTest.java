@@ -4,6 +4,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import kg.freelance.entity.enums.UserRole;
 import kg.freelance.security.UserPrincipal;
+import kg.freelance.service.PresenceTracker;
 import kg.freelance.service.UserService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +35,9 @@ class JwtAuthenticationFilterTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private PresenceTracker presenceTracker;
+
     @Mock
     private FilterChain filterChain;
 
@@ -111,6 +115,7 @@ class JwtAuthenticationFilterTest {
             assertThat(auth).isNotNull();
             assertThat(auth.getPrincipal()).isEqualTo(userPrincipal);
 
+            verify(presenceTracker).touch(1L);
             verify(filterChain).doFilter(request, response);
         }
 
@@ -11,6 +11,8 @@ import kg.freelance.entity.enums.UserRole;
 import kg.freelance.exception.BadRequestException;
 import kg.freelance.exception.ResourceNotFoundException;
 import kg.freelance.repository.*;
+import kg.freelance.service.ChatMembershipCache;
+import kg.freelance.service.OrderFeedCache;
 import kg.freelance.service.ReviewService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -72,6 +74,12 @@ class AdminServiceImplTest {
     @Mock
     private kg.freelance.service.DisputeService disputeService;
 
+    @Mock
+    private ChatMembershipCache chatMembershipCache;
+
+    @Mock
+    private OrderFeedCache orderFeedCache;
+
     @InjectMocks
     private AdminServiceImpl adminService;
 
@@ -233,7 +241,7 @@ class AdminServiceImplTest {
             Pageable pageable = PageRequest.of(0, 10);
             Page<User> page = new PageImpl<>(List.of(user), pageable, 1);
 
-            when(userRepository.findAll(pageable)).thenReturn(page);
+            when(userRepository.findAllBy(pageable)).thenReturn(page);
 
             // When
             PageResponse<AdminUserResponse> result = adminService.getAllUsers(null, null, null, pageable);
@@ -299,6 +307,25 @@ class AdminServiceImplTest {
             verify(disputeService).resolveDispute(eq(10L), eq(99L), any());
         }
 
+        @Test
+        @DisplayName("Should cancel order directly and evict feed cache when no admin exists")
+        void shouldCancelDirectlyWhenNoAdminExists() {
+            // Given
+            order.setStatus(OrderStatus.DISPUTED);
+            Dispute dispute = Dispute.builder().id(10L).order(order).build();
+            when(disputeRepository.findByOrderId(1L)).thenReturn(Optional.of(dispute));
+            when(userRepository.findByRole(UserRole.ADMIN)).thenReturn(List.of());
+            when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+            // When
+            adminService.resolveDispute(1L, true, "Client was right");
+
+            // Then
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+            verify(orderRepository).save(order);
+            verify(orderFeedCache).evictCategory(category.getId());
+        }
+
         @Test
         @DisplayName("Should throw exception when no dispute found for order")
         void shouldThrowExceptionWhenOrderNotInDispute() {
@@ -322,6 +349,7 @@ class AdminServiceImplTest {
 
             // Then
             verify(orderRepository).delete(order);
+            verify(orderFeedCache).evictCategory(category.getId());
         }
 
         @Test
@@ -332,7 +360,7 @@ class AdminServiceImplTest {
             Pageable pageable = PageRequest.of(0, 10);
             Page<Order> page = new PageImpl<>(List.of(order), pageable, 1);
 
-            when(orderRepository.findAll(pageable)).thenReturn(page);
+            when(orderRepository.findAllBy(pageable)).thenReturn(page);
 
             // When
             PageResponse<AdminOrderResponse> result = adminService.getDisputedOrders(pageable);
@@ -455,7 +483,21 @@ class AdminServiceImplTest {
 
             // Then
             verify(reviewRepository).save(argThat(r -> r.getIsModerated() && r.getIsVisible()));
-            verify(reviewService).recalculateExecutorRating(2L);
+            verify(reviewService, never()).adjustExecutorRating(anyLong(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should count a hidden review again once approved")
+        void shouldRestoreHiddenReviewOnApprove() {
+            // Given
+            review.setIsVisible(false);
+            when(reviewRepository.findById(1L)).thenReturn(Optional.of(review));
+
+            // When
+            adminService.approveReview(1L);
+
+            // Then
+            verify(reviewService).adjustExecutorRating(2L, 5, 1);
         }
 
         @Test
@@ -473,7 +515,7 @@ class AdminServiceImplTest {
                     !r.getIsVisible() &&
                     r.getModeratorComment().equals("Inappropriate content")
             ));
-            verify(reviewService).recalculateExecutorRating(2L);
+            verify(reviewService).adjustExecutorRating(2L, -5, -1);
         }
 
         @Test
@@ -487,7 +529,7 @@ class AdminServiceImplTest {
 
             // Then
             verify(reviewRepository).delete(review);
-            verify(reviewService).recalculateExecutorRating(2L);
+            verify(reviewService).adjustExecutorRating(2L, -5, -1);
         }
 
         @Test
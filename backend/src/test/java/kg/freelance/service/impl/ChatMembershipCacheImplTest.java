@@ -0,0 +1,135 @@
+package kg.freelance.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kg.freelance.repository.ChatRoomRepository;
+import kg.freelance.repository.projection.ChatMembersView;
+import kg.freelance.service.ChatMembershipCache.ChatMembership;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMembershipCache Tests")
+class ChatMembershipCacheImplTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    private ChatMembershipCacheImpl cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ChatMembershipCacheImpl(chatRoomRepository, new SimpleMeterRegistry(), clock, 3600, 2);
+    }
+
+    private ChatMembersView members(Long chatRoomId) {
+        return new ChatMembersView() {
+            @Override
+            public Long getChatRoomId() {
+                return chatRoomId;
+            }
+
+            @Override
+            public Long getClientId() {
+                return 1L;
+            }
+
+            @Override
+            public String getClientEmail() {
+                return "client@example.com";
+            }
+
+            @Override
+            public Long getExecutorId() {
+                return 2L;
+            }
+
+            @Override
+            public String getExecutorEmail() {
+                return "executor@example.com";
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should load participants once and answer from memory afterwards")
+    void shouldServeRepeatedLookupsFromMemory() {
+        // Given
+        when(chatRoomRepository.findMembersById(10L)).thenReturn(Optional.of(members(10L)));
+
+        // When
+        cache.get(10L);
+        ChatMembership membership = cache.get(10L).orElseThrow();
+
+        // Then
+        verify(chatRoomRepository, times(1)).findMembersById(10L);
+        assertThat(membership.isParticipant(2L)).isTrue();
+        assertThat(membership.isParticipant(3L)).isFalse();
+        assertThat(membership.otherParticipantEmail(1L)).isEqualTo("executor@example.com");
+        assertThat(membership.otherParticipantId(2L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should not remember rooms that do not exist")
+    void shouldNotCacheMissingRoom() {
+        // Given
+        when(chatRoomRepository.findMembersById(10L)).thenReturn(Optional.empty(), Optional.of(members(10L)));
+
+        // When/Then
+        assertThat(cache.get(10L)).isEmpty();
+        assertThat(cache.get(10L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should reload a room after eviction")
+    void shouldReloadAfterEvict() {
+        // Given
+        when(chatRoomRepository.findMembersById(10L)).thenReturn(Optional.of(members(10L)));
+        cache.get(10L);
+
+        // When
+        cache.evict(10L);
+        cache.get(10L);
+
+        // Then
+        verify(chatRoomRepository, times(2)).findMembersById(10L);
+    }
+
+    @Test
+    @DisplayName("Should admit a new room into a full cache by evicting the oldest entry")
+    void shouldAdmitNewRoomWhenFull() {
+        // Given
+        Clock ticking = mock(Clock.class);
+        when(ticking.millis()).thenReturn(0L, 1_000L, 2_000L, 3_000L, 4_000L, 5_000L);
+        cache = new ChatMembershipCacheImpl(chatRoomRepository, new SimpleMeterRegistry(), ticking, 3600, 2);
+        when(chatRoomRepository.findMembersById(anyLong()))
+                .thenAnswer(invocation -> Optional.of(members(invocation.getArgument(0))));
+        cache.get(10L);
+        cache.get(11L);
+
+        // When - the cache is full of live entries
+        cache.get(12L);
+
+        // Then - the new room is cached, the oldest one made way for it
+        cache.get(12L);
+        cache.get(11L);
+        cache.get(10L);
+        verify(chatRoomRepository, times(1)).findMembersById(12L);
+        verify(chatRoomRepository, times(1)).findMembersById(11L);
+        verify(chatRoomRepository, times(2)).findMembersById(10L);
+    }
+}
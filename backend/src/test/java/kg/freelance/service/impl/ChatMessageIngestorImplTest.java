@@ -0,0 +1,144 @@
+package kg.freelance.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kg.freelance.dto.request.ChatMessageRequest;
+import kg.freelance.entity.User;
+import kg.freelance.exception.ResourceNotFoundException;
+import kg.freelance.repository.UserRepository;
+import kg.freelance.websocket.dto.WsMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageIngestor Tests")
+class ChatMessageIngestorImplTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private User client;
+    private User executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        client = User.builder().id(1L).email("client@example.com").fullName("Client User").build();
+        executor = User.builder().id(2L).email("executor@example.com").fullName("Executor User").build();
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private ChatMessageIngestorImpl ingestor(int queueCapacity) {
+        return new ChatMessageIngestorImpl(jdbcTemplate, transactionTemplate, userRepository, new ObjectMapper(),
+                meterRegistry, clock, 100, queueCapacity);
+    }
+
+    private ChatMessageRequest request(String content) {
+        ChatMessageRequest request = new ChatMessageRequest();
+        request.setContent(content);
+        return request;
+    }
+
+    @Test
+    @DisplayName("Should write queued messages in one batch and acknowledge them after commit")
+    @SuppressWarnings("unchecked")
+    void shouldWriteQueuedMessagesInOneBatch() {
+        // Given
+        ChatMessageIngestorImpl ingestor = ingestor(10);
+        when(userRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(client, executor));
+        when(jdbcTemplate.queryForList(startsWith("SELECT nextval"), eq(Long.class), eq(3)))
+                .thenReturn(List.of(101L, 102L, 103L));
+
+        CompletableFuture<WsMessage> first = ingestor.submit(1L, 1L, request("Hi"));
+        CompletableFuture<WsMessage> second = ingestor.submit(1L, 2L, request("Hello"));
+        CompletableFuture<WsMessage> third = ingestor.submit(5L, 1L, request("Other room"));
+        assertThat(first).isNotDone();
+
+        // When
+        int drained = ingestor.drain();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO messages"), rows.capture());
+        verify(jdbcTemplate).queryForObject(startsWith("SELECT set_config"), eq(String.class));
+        verify(jdbcTemplate).queryForObject(startsWith("SELECT chat_rooms_apply_messages"), eq(Integer.class),
+                eq("{101,102,103}"));
+        assertThat(drained).isEqualTo(3);
+        assertThat(rows.getValue()).hasSize(3);
+        assertThat(first.join().getId()).isEqualTo(101L);
+        assertThat(second.join().getSenderName()).isEqualTo("Executor User");
+        assertThat(third.join().getChatRoomId()).isEqualTo(5L);
+        assertThat(meterRegistry.get("chat.ingest.batch.size").summary().totalAmount()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("chat.ingest.commit").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch one by one so only the bad message fails")
+    void shouldIsolateFailedMessage() {
+        // Given
+        ChatMessageIngestorImpl ingestor = ingestor(10);
+        when(userRepository.findAllById(Set.of(1L, 99L))).thenReturn(List.of(client));
+        when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(client));
+        when(userRepository.findAllById(Set.of(99L))).thenReturn(List.of());
+        when(jdbcTemplate.queryForList(startsWith("SELECT nextval"), eq(Long.class), eq(1)))
+                .thenReturn(List.of(101L));
+
+        CompletableFuture<WsMessage> good = ingestor.submit(1L, 1L, request("Hi"));
+        CompletableFuture<WsMessage> bad = ingestor.submit(1L, 99L, request("Ghost"));
+
+        // When
+        ingestor.drain();
+
+        // Then
+        assertThat(good.join().getId()).isEqualTo(101L);
+        assertThatThrownBy(bad::join).hasCauseInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should write on the caller's thread when the queue is full")
+    void shouldWriteInlineWhenQueueIsFull() {
+        // Given
+        ChatMessageIngestorImpl ingestor = ingestor(1);
+        when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(client));
+        when(jdbcTemplate.queryForList(startsWith("SELECT nextval"), eq(Long.class), eq(1)))
+                .thenReturn(List.of(101L));
+
+        // When
+        CompletableFuture<WsMessage> queued = ingestor.submit(1L, 1L, request("First"));
+        CompletableFuture<WsMessage> overflowed = ingestor.submit(1L, 1L, request("Second"));
+
+        // Then
+        assertThat(queued).isNotDone();
+        assertThat(overflowed.join().getContent()).isEqualTo("Second");
+        assertThat(meterRegistry.get("chat.ingest.overflow").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -2,26 +2,32 @@ package kg.freelance.service.impl;
 
 import kg.freelance.dto.request.ChatMessageRequest;
 import kg.freelance.dto.response.ChatRoomResponse;
+import kg.freelance.dto.response.CursorPageResponse;
 import kg.freelance.dto.response.MessageResponse;
 import kg.freelance.dto.response.PageResponse;
+import kg.freelance.entity.ChatReadState;
 import kg.freelance.entity.ChatRoom;
 import kg.freelance.entity.Message;
 import kg.freelance.entity.Order;
 import kg.freelance.entity.User;
 import kg.freelance.entity.enums.OrderStatus;
 import kg.freelance.entity.enums.UserRole;
+import kg.freelance.exception.BadRequestException;
 import kg.freelance.exception.ForbiddenException;
 import kg.freelance.exception.ResourceNotFoundException;
+import kg.freelance.repository.ChatReadStateRepository;
 import kg.freelance.repository.ChatRoomRepository;
 import kg.freelance.repository.MessageRepository;
 import kg.freelance.repository.OrderRepository;
 import kg.freelance.repository.UserRepository;
+import kg.freelance.service.ChatMembershipCache;
+import kg.freelance.service.ChatMembershipCache.ChatMembership;
+import kg.freelance.service.ViewerContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
@@ -30,7 +36,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,7 +66,17 @@ class ChatServiceImplTest {
     @Mock
     private SimpMessagingTemplate messagingTemplate;
 
-    @InjectMocks
+    @Mock
+    private ViewerContext viewerContext;
+
+    @Mock
+    private ChatMembershipCache chatMembershipCache;
+
+    @Mock
+    private ChatReadStateRepository chatReadStateRepository;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
     private ChatServiceImpl chatService;
 
     private User client;
@@ -65,9 +84,13 @@ class ChatServiceImplTest {
     private Order order;
     private ChatRoom chatRoom;
     private Message message;
+    private ChatMembership membership;
 
     @BeforeEach
     void setUp() {
+        chatService = new ChatServiceImpl(chatRoomRepository, messageRepository, chatReadStateRepository,
+                viewerContext, messagingTemplate, orderRepository, chatMembershipCache, clock, 10);
+
         client = User.builder()
                 .id(1L)
                 .email("client@example.com")
@@ -108,9 +131,10 @@ class ChatServiceImplTest {
                 .chatRoom(chatRoom)
                 .sender(client)
                 .content("Hello!")
-                .isRead(false)
                 .createdAt(LocalDateTime.now())
                 .build();
+
+        membership = new ChatMembership(1L, 1L, "client@example.com", 2L, "executor@example.com");
     }
 
     @Nested
@@ -125,8 +149,6 @@ class ChatServiceImplTest {
             Page<ChatRoom> page = new PageImpl<>(List.of(chatRoom), pageable, 1);
 
             when(chatRoomRepository.findByUserId(1L, pageable)).thenReturn(page);
-            when(messageRepository.findLastMessageByChatRoomId(1L)).thenReturn(message);
-            when(messageRepository.countUnreadMessages(1L, 1L)).thenReturn(0L);
 
             // When
             PageResponse<ChatRoomResponse> result = chatService.getMyChatRooms(1L, pageable);
@@ -135,6 +157,30 @@ class ChatServiceImplTest {
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().get(0).getOrderTitle()).isEqualTo("Test Order");
+            verifyNoInteractions(messageRepository);
+        }
+
+        @Test
+        @DisplayName("Should read summary and unread count of the viewer from the room")
+        void shouldReadSummaryFromRoom() {
+            // Given
+            chatRoom.setLastMessagePreview("Hello!");
+            chatRoom.setLastMessageSenderId(1L);
+            chatRoom.setLastMessageAt(LocalDateTime.now());
+            chatRoom.setClientUnreadCount(0);
+            chatRoom.setExecutorUnreadCount(3);
+            Pageable pageable = PageRequest.of(0, 10);
+            when(chatRoomRepository.findByUserId(2L, pageable))
+                    .thenReturn(new PageImpl<>(List.of(chatRoom), pageable, 1));
+
+            // When
+            ChatRoomResponse result = chatService.getMyChatRooms(2L, pageable).getContent().get(0);
+
+            // Then
+            assertThat(result.getParticipantId()).isEqualTo(1L);
+            assertThat(result.getLastMessage()).isEqualTo("Hello!");
+            assertThat(result.getLastMessageSenderId()).isEqualTo(1L);
+            assertThat(result.getUnreadCount()).isEqualTo(3L);
         }
     }
 
@@ -147,8 +193,6 @@ class ChatServiceImplTest {
         void shouldReturnChatRoomByIdForParticipant() {
             // Given
             when(chatRoomRepository.findById(1L)).thenReturn(Optional.of(chatRoom));
-            when(messageRepository.findLastMessageByChatRoomId(1L)).thenReturn(message);
-            when(messageRepository.countUnreadMessages(1L, 1L)).thenReturn(0L);
 
             // When
             ChatRoomResponse result = chatService.getChatRoomById(1L, 1L);
@@ -187,8 +231,6 @@ class ChatServiceImplTest {
         void shouldReturnChatRoomByOrderId() {
             // Given
             when(chatRoomRepository.findByOrderId(1L)).thenReturn(Optional.of(chatRoom));
-            when(messageRepository.findLastMessageByChatRoomId(1L)).thenReturn(message);
-            when(messageRepository.countUnreadMessages(1L, 1L)).thenReturn(0L);
 
             // When
             ChatRoomResponse result = chatService.getChatRoomByOrderId(1L, 1L);
@@ -208,8 +250,6 @@ class ChatServiceImplTest {
         void shouldReturnExistingChatRoom() {
             // Given
             when(chatRoomRepository.findByOrderIdAndExecutorId(1L, 2L)).thenReturn(Optional.of(chatRoom));
-            when(messageRepository.findLastMessageByChatRoomId(1L)).thenReturn(null);
-            when(messageRepository.countUnreadMessages(1L, 1L)).thenReturn(0L);
 
             // When
             ChatRoomResponse result = chatService.getOrCreateChatRoom(1L, 2L, 1L);
@@ -228,8 +268,6 @@ class ChatServiceImplTest {
             when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
             when(userRepository.findById(2L)).thenReturn(Optional.of(executor));
             when(chatRoomRepository.save(any(ChatRoom.class))).thenReturn(chatRoom);
-            when(messageRepository.findLastMessageByChatRoomId(1L)).thenReturn(null);
-            when(messageRepository.countUnreadMessages(1L, 1L)).thenReturn(0L);
 
             // When
             ChatRoomResponse result = chatService.getOrCreateChatRoom(1L, 2L, 1L);
@@ -278,6 +316,165 @@ class ChatServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get Message History Tests")
+    class GetMessageHistoryTests {
+
+        private Message messageWithId(Long id) {
+            return messageWithId(id, LocalDateTime.now(clock).minusMinutes(1));
+        }
+
+        private Message messageWithId(Long id, LocalDateTime createdAt) {
+            return Message.builder().id(id).chatRoom(chatRoom).sender(client).content("Message " + id)
+                    .createdAt(createdAt).build();
+        }
+
+        @Test
+        @DisplayName("Should seek before the cursor without counting")
+        void shouldSeekBeforeCursor() {
+            // Given
+            when(chatMembershipCache.get(1L)).thenReturn(Optional.of(membership));
+            when(messageRepository.findBefore(1L, 100L, PageRequest.of(0, 3)))
+                    .thenReturn(List.of(messageWithId(99L), messageWithId(98L), messageWithId(97L)));
+
+            // When
+            CursorPageResponse<MessageResponse> result = chatService.getMessageHistory(1L, 2L, 100L, null, 2);
+
+            // Then
+            assertThat(result.getContent()).extracting(MessageResponse::getId).containsExactly(99L, 98L);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(result.getNextCursor()).isEqualTo("98");
+            verify(messageRepository, never()).countByChatRoomId(anyLong());
+            verify(chatRoomRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should start from the newest message without a cursor")
+        void shouldStartFromNewest() {
+            // Given
+            when(chatMembershipCache.get(1L)).thenReturn(Optional.of(membership));
+            when(messageRepository.findBefore(1L, Long.MAX_VALUE, PageRequest.of(0, 51)))
+                    .thenReturn(List.of(messageWithId(5L)));
+
+            // When
+            CursorPageResponse<MessageResponse> result = chatService.getMessageHistory(1L, 1L, null, null, 50);
+
+            // Then
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should return messages missed after the cursor oldest first")
+        void shouldReturnMessagesAfterCursor() {
+            // Given
+            when(chatMembershipCache.get(1L)).thenReturn(Optional.of(membership));
+            when(messageRepository.findAfter(1L, 10L, PageRequest.of(0, 51)))
+                    .thenReturn(List.of(messageWithId(11L), messageWithId(12L)));
+
+            // When
+            CursorPageResponse<MessageResponse> result = chatService.getMessageHistory(1L, 1L, null, 10L, 50);
+
+            // Then
+            assertThat(result.getContent()).extracting(MessageResponse::getId).containsExactly(11L, 12L);
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isEqualTo("12");
+        }
+
+        @Test
+        @DisplayName("Should page after the cursor without repeating messages at or below it")
+        void shouldPageAfterCursorWithoutRepeats() {
+            // Given
+            when(chatMembershipCache.get(1L)).thenReturn(Optional.of(membership));
+            when(messageRepository.findAfter(1L, 1000L, PageRequest.of(0, 3)))
+                    .thenReturn(List.of(messageWithId(1001L), messageWithId(1002L), messageWithId(1003L)));
+
+            // When
+            CursorPageResponse<MessageResponse> result = chatService.getMessageHistory(1L, 1L, null, 1000L, 2);
+
+            // Then
+            assertThat(result.getContent()).extracting(MessageResponse::getId).containsExactly(1001L, 1002L);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(result.getNextCursor()).isEqualTo("1002");
+        }
+
+        @Test
+        @DisplayName("Should hold back messages that may still have uncommitted ids below them")
+        void shouldStopCursorBeforeUnsettledMessages() {
+            // Given - 1002 was just written, a lower id from the same moment may not be committed yet
+            when(chatMembershipCache.get(1L)).thenReturn(Optional.of(membership));
+            when(messageRepository.findAfter(1L, 1000L, PageRequest.of(0, 51)))
+                    .thenReturn(List.of(messageWithId(1001L), messageWithId(1002L, LocalDateTime.now(clock)),
+                            messageWithId(1004L)));
+
+            // When
+            CursorPageResponse<MessageResponse> result = chatService.getMessageHistory(1L, 1L, null, 1000L, 50);
+
+            // Then
+            assertThat(result.getContent()).extracting(MessageResponse::getId).containsExactly(1001L);
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isEqualTo("1001");
+        }
+
+        @Test
+        @DisplayName("Should keep the after cursor when nothing has settled yet")
+        void shouldKeepAfterCursorWhenNothingSettled() {
+            // Given
+            when(chatMembershipCache.get(1L)).thenReturn(Optional.of(membership));
+            when(messageRepository.findAfter(1L, 1000L, PageRequest.of(0, 51)))
+                    .thenReturn(List.of(messageWithId(1001L, LocalDateTime.now(clock).minusSeconds(3))));
+
+            // When
+            CursorPageResponse<MessageResponse> result = chatService.getMessageHistory(1L, 1L, null, 1000L, 50);
+
+            // Then
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isEqualTo("1000");
+        }
+
+        @Test
+        @DisplayName("Should derive read flags from the recipient's cursor")
+        void shouldDeriveReadFlagsFromCursor() {
+            // Given
+            Message fromExecutor = messageWithId(8L);
+            fromExecutor.setSender(executor);
+            when(chatMembershipCache.get(1L)).thenReturn(Optional.of(membership));
+            when(messageRepository.findBefore(1L, Long.MAX_VALUE, PageRequest.of(0, 51)))
+                    .thenReturn(List.of(messageWithId(9L), fromExecutor, messageWithId(7L)));
+            when(chatReadStateRepository.findByChatRoomId(1L)).thenReturn(List.of(
+                    new ChatReadState(1L, 1L, 9L, LocalDateTime.now()),
+                    new ChatReadState(1L, 2L, 7L, LocalDateTime.now())));
+
+            // When
+            CursorPageResponse<MessageResponse> result = chatService.getMessageHistory(1L, 1L, null, null, 50);
+
+            // Then - client messages are read up to the executor's cursor and vice versa
+            assertThat(result.getContent()).extracting(MessageResponse::getIsRead).containsExactly(false, true, true);
+        }
+
+        @Test
+        @DisplayName("Should reject both cursors at once")
+        void shouldRejectBothCursors() {
+            // When/Then
+            assertThatThrownBy(() -> chatService.getMessageHistory(1L, 1L, 10L, 5L, 50))
+                    .isInstanceOf(BadRequestException.class);
+            verifyNoInteractions(messageRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject non-participant")
+        void shouldRejectNonParticipant() {
+            // Given
+            when(chatMembershipCache.get(1L)).thenReturn(Optional.of(membership));
+
+            // When/Then
+            assertThatThrownBy(() -> chatService.getMessageHistory(1L, 999L, null, null, 50))
+                    .isInstanceOf(ForbiddenException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Send Message Tests")
     class SendMessageTests {
@@ -290,14 +487,13 @@ class ChatServiceImplTest {
             request.setContent("Hello, executor!");
 
             when(chatRoomRepository.findById(1L)).thenReturn(Optional.of(chatRoom));
-            when(userRepository.findById(1L)).thenReturn(Optional.of(client));
+            when(viewerContext.getUser(1L)).thenReturn(Optional.of(client));
             when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> {
                 Message msg = invocation.getArgument(0);
                 msg.setId(2L);
                 msg.setCreatedAt(LocalDateTime.now());
                 return msg;
             });
-            when(chatRoomRepository.save(any(ChatRoom.class))).thenReturn(chatRoom);
 
             // When
             MessageResponse result = chatService.sendMessage(1L, 1L, request);
@@ -337,13 +533,27 @@ class ChatServiceImplTest {
         @DisplayName("Should mark messages as read")
         void shouldMarkMessagesAsRead() {
             // Given
-            when(chatRoomRepository.findById(1L)).thenReturn(Optional.of(chatRoom));
+            when(chatMembershipCache.get(1L)).thenReturn(Optional.of(membership));
 
             // When
             chatService.markMessagesAsRead(1L, 1L);
 
             // Then
-            verify(messageRepository).markMessagesAsRead(1L, 1L);
+            verify(chatReadStateRepository).markRead(1L, 1L);
+            verifyNoInteractions(messageRepository);
+            verify(chatRoomRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should reject read from non-participant")
+        void shouldRejectReadFromNonParticipant() {
+            // Given
+            when(chatMembershipCache.get(1L)).thenReturn(Optional.of(membership));
+
+            // When/Then
+            assertThatThrownBy(() -> chatService.markMessagesAsRead(1L, 999L))
+                    .isInstanceOf(ForbiddenException.class);
+            verifyNoInteractions(chatReadStateRepository);
         }
     }
 
@@ -355,19 +565,20 @@ class ChatServiceImplTest {
         @DisplayName("Should check if user is participant")
         void shouldCheckIfUserIsParticipant() {
             // Given
-            when(chatRoomRepository.isUserParticipant(1L, 1L)).thenReturn(true);
-            when(chatRoomRepository.isUserParticipant(1L, 999L)).thenReturn(false);
+            when(chatMembershipCache.get(1L)).thenReturn(Optional.of(membership));
+            when(chatMembershipCache.get(5L)).thenReturn(Optional.empty());
 
             // When/Then
             assertThat(chatService.isUserParticipant(1L, 1L)).isTrue();
             assertThat(chatService.isUserParticipant(1L, 999L)).isFalse();
+            assertThat(chatService.isUserParticipant(5L, 1L)).isFalse();
         }
 
         @Test
         @DisplayName("Should get other participant ID")
         void shouldGetOtherParticipantId() {
             // Given
-            when(chatRoomRepository.findById(1L)).thenReturn(Optional.of(chatRoom));
+            when(chatMembershipCache.get(1L)).thenReturn(Optional.of(membership));
 
             // When
             Long otherIdForClient = chatService.getOtherParticipantId(1L, 1L);
@@ -382,7 +593,7 @@ class ChatServiceImplTest {
         @DisplayName("Should get other participant email")
         void shouldGetOtherParticipantEmail() {
             // Given
-            when(chatRoomRepository.findById(1L)).thenReturn(Optional.of(chatRoom));
+            when(chatMembershipCache.get(1L)).thenReturn(Optional.of(membership));
 
             // When
             String emailForClient = chatService.getOtherParticipantEmail(1L, 1L);
@@ -66,6 +66,9 @@ class DisputeServiceImplTest {
     @Mock
     private MessageRepository messageRepository;
 
+    @Mock
+    private ChatReadStateRepository chatReadStateRepository;
+
     @Mock
     private EmailService emailService;
 
@@ -120,7 +123,6 @@ class DisputeServiceImplTest {
 
             when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
             when(disputeRepository.existsByOrderId(1L)).thenReturn(false);
-            when(executorProfileRepository.findById(2L)).thenReturn(Optional.of(executorProfile));
             when(chatRoomRepository.findByOrderIdAndExecutorId(1L, 2L)).thenReturn(Optional.of(chatRoom));
             when(disputeRepository.save(any(Dispute.class))).thenAnswer(inv -> {
                 Dispute d = inv.getArgument(0);
@@ -144,7 +146,7 @@ class DisputeServiceImplTest {
             assertThat(response.getOpenedByRole()).isEqualTo("CLIENT");
 
             verify(orderRepository).save(argThat(o -> o.getStatus() == OrderStatus.DISPUTED));
-            verify(executorProfileRepository).save(argThat(p -> p.getDisputedOrders() == 1));
+            verify(executorProfileRepository).incrementDisputedOrders(2L);
             verify(disputeRepository).save(any(Dispute.class));
             verify(emailService, times(3)).sendDisputeOpened(anyString(), anyString(), anyString(), anyLong(), anyString());
         }
@@ -156,7 +158,6 @@ class DisputeServiceImplTest {
 
             when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
             when(disputeRepository.existsByOrderId(1L)).thenReturn(false);
-            when(executorProfileRepository.findById(2L)).thenReturn(Optional.of(executorProfile));
             when(chatRoomRepository.findByOrderIdAndExecutorId(1L, 2L)).thenReturn(Optional.of(chatRoom));
             when(disputeRepository.save(any(Dispute.class))).thenAnswer(inv -> {
                 Dispute d = inv.getArgument(0);
@@ -210,7 +211,6 @@ class DisputeServiceImplTest {
 
             when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
             when(disputeRepository.existsByOrderId(1L)).thenReturn(false);
-            when(executorProfileRepository.findById(2L)).thenReturn(Optional.of(executorProfile));
             when(chatRoomRepository.findByOrderIdAndExecutorId(1L, 2L)).thenReturn(Optional.of(chatRoom));
             when(disputeRepository.save(any(Dispute.class))).thenAnswer(inv -> {
                 Dispute d = inv.getArgument(0);
@@ -544,7 +544,6 @@ class DisputeServiceImplTest {
 
             when(disputeRepository.findById(1L)).thenReturn(Optional.of(dispute));
             when(userRepository.findById(3L)).thenReturn(Optional.of(admin));
-            when(executorProfileRepository.findById(2L)).thenReturn(Optional.of(executorProfile));
             when(disputeRepository.save(any(Dispute.class))).thenAnswer(inv -> inv.getArgument(0));
             when(messageRepository.save(any(Message.class))).thenAnswer(inv -> {
                 Message m = inv.getArgument(0);
@@ -557,7 +556,7 @@ class DisputeServiceImplTest {
             assertThat(response).isNotNull();
             assertThat(response.getResolution()).isEqualTo(DisputeResolution.FAVOR_EXECUTOR);
             verify(orderRepository).save(argThat(o -> o.getStatus() == OrderStatus.COMPLETED));
-            verify(executorProfileRepository).save(argThat(p -> p.getCompletedOrders() == 6));
+            verify(executorProfileRepository).incrementCompletedOrders(2L, null);
         }
 
         @Test
@@ -613,7 +612,7 @@ class DisputeServiceImplTest {
             PageResponse<DisputeResponse> response = disputeService.getActiveDisputes(pageable);
 
             assertThat(response.getContent()).hasSize(1);
-            assertThat(response.getTotalElements()).isEqualTo(1);
+            assertThat(response.getTotalElements()).isEqualTo(1L);
         }
 
         @Test
@@ -661,7 +660,7 @@ class DisputeServiceImplTest {
         @DisplayName("Should return chat messages for dispute")
         void shouldReturnChatMessages() {
             Message msg = Message.builder().id(1L).chatRoom(chatRoom).sender(client)
-                    .content("Test message").isRead(false)
+                    .content("Test message")
                     .createdAt(LocalDateTime.now()).build();
 
             Pageable pageable = PageRequest.of(0, 100);
@@ -687,7 +686,7 @@ class DisputeServiceImplTest {
             PageResponse<MessageResponse> response = disputeService.getDisputeMessages(1L, pageable);
 
             assertThat(response.getContent()).isEmpty();
-            assertThat(response.getTotalElements()).isEqualTo(0);
+            assertThat(response.getTotalElements()).isEqualTo(0L);
         }
     }
 }
@@ -0,0 +1,92 @@
+package kg.freelance.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kg.freelance.dto.response.ExecutorPageResponse;
+import kg.freelance.dto.response.ExecutorResponse;
+import kg.freelance.service.ExecutorPageCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExecutorPageCache Tests")
+class ExecutorPageCacheImplTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ExecutorPageCacheImpl cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ExecutorPageCacheImpl(objectMapper, new SimpleMeterRegistry(), clock, 60, 2);
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<ExecutorPageResponse> loader(String bio) {
+        return () -> {
+            loads.incrementAndGet();
+            return ExecutorPageResponse.builder()
+                    .profile(ExecutorResponse.builder().id(1L).bio(bio).build())
+                    .portfolio(List.of())
+                    .build();
+        };
+    }
+
+    @Test
+    @DisplayName("Should load a page once and serve it from memory afterwards")
+    void shouldServeRepeatedRequestsFromMemory() {
+        ExecutorPageCache.ExecutorPage first = cache.get(1L, loader("Bio"));
+        ExecutorPageCache.ExecutorPage second = cache.get(1L, loader("Bio"));
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second.etag()).isEqualTo(first.etag());
+    }
+
+    @Test
+    @DisplayName("Should derive the ETag from the content")
+    void shouldChangeEtagWithContent() {
+        ExecutorPageCache.ExecutorPage before = cache.get(1L, loader("Bio"));
+
+        cache.evict(1L);
+        ExecutorPageCache.ExecutorPage edited = cache.get(1L, loader("New bio"));
+        cache.evict(1L);
+        ExecutorPageCache.ExecutorPage reverted = cache.get(1L, loader("Bio"));
+
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(edited.etag()).isNotEqualTo(before.etag()).startsWith("\"").endsWith("\"");
+        assertThat(reverted.etag()).isEqualTo(before.etag());
+    }
+
+    @Test
+    @DisplayName("Should reload after the TTL")
+    void shouldReloadAfterTtl() {
+        ExecutorPageCacheImpl expiring = new ExecutorPageCacheImpl(objectMapper, new SimpleMeterRegistry(), clock, 0, 2);
+
+        expiring.get(1L, loader("Bio"));
+        expiring.get(1L, loader("Bio"));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not grow past the entry limit")
+    void shouldRespectEntryLimit() {
+        cache.get(1L, loader("Bio"));
+        cache.get(2L, loader("Bio"));
+        cache.get(3L, loader("Bio"));
+        cache.get(3L, loader("Bio"));
+
+        assertThat(loads.get()).isEqualTo(4);
+    }
+}
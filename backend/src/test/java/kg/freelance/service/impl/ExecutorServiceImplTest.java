@@ -2,6 +2,7 @@ package kg.freelance.service.impl;
 
 import kg.freelance.dto.request.ExecutorProfileRequest;
 import kg.freelance.dto.response.ExecutorListResponse;
+import kg.freelance.dto.response.ExecutorPageResponse;
 import kg.freelance.dto.response.ExecutorResponse;
 import kg.freelance.dto.response.PageResponse;
 import kg.freelance.dto.response.PortfolioResponse;
@@ -11,6 +12,9 @@ import kg.freelance.entity.enums.OrderStatus;
 import kg.freelance.entity.enums.UserRole;
 import kg.freelance.exception.ResourceNotFoundException;
 import kg.freelance.repository.*;
+import kg.freelance.service.ExecutorPageCache;
+import kg.freelance.service.ExecutorService;
+import kg.freelance.service.OrderFeedNotifier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,10 +27,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -51,6 +60,15 @@ class ExecutorServiceImplTest {
     @Mock
     private PortfolioRepository portfolioRepository;
 
+    @Mock
+    private OrderFeedNotifier orderFeedNotifier;
+
+    @Mock
+    private ExecutorPageCache executorPageCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private ExecutorServiceImpl executorService;
 
@@ -104,7 +122,7 @@ class ExecutorServiceImplTest {
             Pageable pageable = PageRequest.of(0, 10);
             Page<ExecutorProfile> page = new PageImpl<>(List.of(executorProfile), pageable, 1);
 
-            when(executorProfileRepository.findExecutors(null, null, false, null, pageable))
+            when(executorProfileRepository.findExecutors(null, false, pageable))
                     .thenReturn(page);
 
             // When
@@ -114,12 +132,13 @@ class ExecutorServiceImplTest {
             // Then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
-            assertThat(result.getTotalElements()).isEqualTo(1);
+            assertThat(result.getTotalElements()).isEqualTo(1L);
             ExecutorListResponse executor = result.getContent().get(0);
             assertThat(executor.getId()).isEqualTo(1L);
             assertThat(executor.getFullName()).isEqualTo("Executor User");
             assertThat(executor.getRating()).isEqualTo(BigDecimal.valueOf(4.75));
             assertThat(executor.getCategories()).hasSize(1);
+            verify(executorProfileRepository).findWithUserAndCategoriesByIdIn(List.of(1L));
         }
 
         @Test
@@ -129,7 +148,7 @@ class ExecutorServiceImplTest {
             Pageable pageable = PageRequest.of(0, 10);
             Page<ExecutorProfile> page = new PageImpl<>(List.of(executorProfile), pageable, 1);
 
-            when(executorProfileRepository.findExecutors(eq(10L), isNull(), eq(false), isNull(), eq(pageable)))
+            when(executorProfileRepository.findExecutorsInCategory(eq(10L), isNull(), eq(false), eq(pageable)))
                     .thenReturn(page);
 
             // When
@@ -147,7 +166,7 @@ class ExecutorServiceImplTest {
             Pageable pageable = PageRequest.of(0, 10);
             Page<ExecutorProfile> page = new PageImpl<>(List.of(executorProfile), pageable, 1);
 
-            when(executorProfileRepository.findExecutors(isNull(), isNull(), eq(true), isNull(), eq(pageable)))
+            when(executorProfileRepository.findExecutors(isNull(), eq(true), eq(pageable)))
                     .thenReturn(page);
 
             // When
@@ -165,7 +184,7 @@ class ExecutorServiceImplTest {
             Pageable pageable = PageRequest.of(0, 10);
             Page<ExecutorProfile> page = new PageImpl<>(List.of(), pageable, 0);
 
-            when(executorProfileRepository.findExecutors(any(), any(), anyBoolean(), any(), any()))
+            when(executorProfileRepository.findExecutors(any(), anyBoolean(), any()))
                     .thenReturn(page);
 
             // When
@@ -175,6 +194,47 @@ class ExecutorServiceImplTest {
             // Then
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isZero();
+            verify(executorProfileRepository, never()).findWithUserAndCategoriesByIdIn(any());
+        }
+
+        @Test
+        @DisplayName("Should read category ranking from the precomputed score")
+        void shouldUseRankIndexForCategoryRanking() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, ExecutorService.SORT_RANK));
+            Page<ExecutorProfile> page = new PageImpl<>(List.of(executorProfile), PageRequest.of(0, 10), 1);
+
+            when(executorProfileRepository.findExecutorsInCategoryByRank(eq(10L), isNull(), eq(false),
+                    argThat(p -> p.getSort().isUnsorted())))
+                    .thenReturn(page);
+
+            // When
+            PageResponse<ExecutorListResponse> result = executorService.getExecutors(
+                    10L, null, null, null, pageable);
+
+            // Then
+            assertThat(result.getContent()).hasSize(1);
+            verify(executorProfileRepository, never()).findExecutorsInCategory(any(), any(), anyBoolean(), any());
+        }
+
+        @Test
+        @DisplayName("Should rank search results instead of applying the requested sort")
+        void shouldUseRankedSearchForSearchTerm() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "rating"));
+            Page<ExecutorProfile> page = new PageImpl<>(List.of(executorProfile), PageRequest.of(0, 10), 1);
+
+            when(executorProfileRepository.searchExecutors(eq(10L), isNull(), eq(false), eq("дизайн"),
+                    argThat(p -> p.getSort().isUnsorted() && p.getPageSize() == 10)))
+                    .thenReturn(page);
+
+            // When
+            PageResponse<ExecutorListResponse> result = executorService.getExecutors(
+                    10L, null, null, "  дизайн ", pageable);
+
+            // Then
+            assertThat(result.getContent()).hasSize(1);
+            verify(executorProfileRepository, never()).findExecutorsInCategory(any(), any(), anyBoolean(), any());
         }
     }
 
@@ -186,7 +246,7 @@ class ExecutorServiceImplTest {
         @DisplayName("Should return executor by ID")
         void shouldReturnExecutorById() {
             // Given
-            when(executorProfileRepository.findById(1L)).thenReturn(Optional.of(executorProfile));
+            when(executorProfileRepository.findWithUserAndCategoriesById(1L)).thenReturn(Optional.of(executorProfile));
 
             // When
             ExecutorResponse result = executorService.getExecutorById(1L);
@@ -209,7 +269,7 @@ class ExecutorServiceImplTest {
         @DisplayName("Should throw exception when executor not found")
         void shouldThrowExceptionWhenExecutorNotFound() {
             // Given
-            when(executorProfileRepository.findById(999L)).thenReturn(Optional.empty());
+            when(executorProfileRepository.findWithUserAndCategoriesById(999L)).thenReturn(Optional.empty());
 
             // When/Then
             assertThatThrownBy(() -> executorService.getExecutorById(999L))
@@ -326,6 +386,7 @@ class ExecutorServiceImplTest {
             assertThat(result).isNotNull();
             verify(executorProfileRepository).save(argThat(profile ->
                     profile.getCategories().contains(newCategory)));
+            verify(orderFeedNotifier).updateCategories(1L, Set.of(20L));
         }
 
         @Test
@@ -355,8 +416,8 @@ class ExecutorServiceImplTest {
 
             // Then
             assertThat(executorProfile.getAvailableForWork()).isFalse();
-            assertThat(executorProfile.getLastActiveAt()).isNotNull();
             verify(executorProfileRepository).save(executorProfile);
+            verify(executorPageCache).evict(1L);
         }
 
         @Test
@@ -516,6 +577,65 @@ class ExecutorServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get Executor Page Tests")
+    class GetExecutorPageTests {
+
+        @BeforeEach
+        void loadThroughCache() {
+            when(executorPageCache.get(eq(1L), any())).thenAnswer(inv -> new ExecutorPageCache.ExecutorPage(
+                    inv.<Supplier<ExecutorPageResponse>>getArgument(1).get(), "\"etag\""));
+            when(transactionTemplate.execute(any()))
+                    .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        }
+
+        @Test
+        @DisplayName("Should assemble profile, reviews and portfolio in one load")
+        void shouldAssembleExecutorPage() {
+            // Given
+            Review review = Review.builder()
+                    .id(1L)
+                    .order(Order.builder().id(100L).title("Test Order").build())
+                    .client(User.builder().id(5L).fullName("Client User").build())
+                    .executor(user)
+                    .rating(5)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            Portfolio portfolio = Portfolio.builder()
+                    .id(1L)
+                    .title("Project A")
+                    .images(List.of())
+                    .sortOrder(0)
+                    .build();
+            when(executorProfileRepository.findWithUserAndCategoriesById(1L)).thenReturn(Optional.of(executorProfile));
+            when(reviewRepository.findByExecutorIdAndIsVisibleTrueOrderByCreatedAtDesc(1L, PageRequest.of(0, 10)))
+                    .thenReturn(new SliceImpl<>(List.of(review), PageRequest.of(0, 10), false));
+            when(portfolioRepository.findByExecutorIdOrderBySortOrder(1L)).thenReturn(List.of(portfolio));
+
+            // When
+            ExecutorPageCache.ExecutorPage result = executorService.getExecutorPage(1L);
+
+            // Then
+            ExecutorPageResponse page = result.page();
+            assertThat(page.getProfile().getFullName()).isEqualTo("Executor User");
+            assertThat(page.getReviews().getContent()).hasSize(1);
+            assertThat(page.getPortfolio()).extracting(PortfolioResponse::getTitle).containsExactly("Project A");
+            verify(reviewRepository, never()).countByExecutorId(anyLong());
+            verify(executorProfileRepository, never()).existsById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when executor not found")
+        void shouldThrowExceptionWhenExecutorNotFoundForPage() {
+            // Given
+            when(executorProfileRepository.findWithUserAndCategoriesById(1L)).thenReturn(Optional.empty());
+
+            // When/Then
+            assertThatThrownBy(() -> executorService.getExecutorPage(1L))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Has Executor Profile Tests")
     class HasExecutorProfileTests {
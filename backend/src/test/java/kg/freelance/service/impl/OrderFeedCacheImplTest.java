@@ -0,0 +1,98 @@
+package kg.freelance.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kg.freelance.dto.request.SliceRequest;
+import kg.freelance.repository.projection.OrderListView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderFeedCache Tests")
+class OrderFeedCacheImplTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+    private final Pageable firstPage = PageRequest.of(0, 20);
+
+    private OrderFeedCacheImpl cache;
+    private AtomicInteger loads;
+    private Supplier<Slice<OrderListView>> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new OrderFeedCacheImpl(new SimpleMeterRegistry(), clock, 3, 30, 256);
+        loads = new AtomicInteger();
+        loader = () -> {
+            loads.incrementAndGet();
+            return new SliceImpl<>(List.of(), firstPage, false);
+        };
+    }
+
+    @Test
+    @DisplayName("Should load a page once and serve it from memory afterwards")
+    void shouldServeRepeatedRequestsFromMemory() {
+        cache.get(1L, firstPage, loader);
+        cache.get(1L, firstPage, loader);
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep count-free and counted pages apart")
+    void shouldSeparateCountModes() {
+        cache.get(1L, firstPage, loader);
+        cache.get(1L, SliceRequest.of(0, 20, false), loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should evict the category and the unfiltered feed")
+    void shouldEvictCategoryAndUnfilteredFeed() {
+        cache.get(1L, firstPage, loader);
+        cache.get(2L, firstPage, loader);
+        cache.get(null, firstPage, loader);
+
+        cache.evictCategory(1L);
+        cache.get(1L, firstPage, loader);
+        cache.get(2L, firstPage, loader);
+        cache.get(null, firstPage, loader);
+
+        assertThat(loads.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should reload after the TTL")
+    void shouldReloadAfterTtl() {
+        OrderFeedCacheImpl expiring = new OrderFeedCacheImpl(new SimpleMeterRegistry(), clock, 3, 0, 256);
+
+        expiring.get(1L, firstPage, loader);
+        expiring.get(1L, firstPage, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should cache only category-only requests for the first pages")
+    void shouldCacheOnlyLandingRequests() {
+        assertThat(cache.isCacheable(1L, null, null, null, null, null, firstPage)).isTrue();
+        assertThat(cache.isCacheable(null, null, null, null, null, null, PageRequest.of(2, 20))).isTrue();
+        assertThat(cache.isCacheable(1L, null, null, null, null, null, PageRequest.of(3, 20))).isFalse();
+        assertThat(cache.isCacheable(1L, BigDecimal.TEN, null, null, null, null, firstPage)).isFalse();
+        assertThat(cache.isCacheable(1L, null, null, "ремонт", null, null, firstPage)).isFalse();
+        assertThat(cache.isCacheable(1L, null, null, null, "Ош", null, firstPage)).isFalse();
+    }
+}
@@ -0,0 +1,300 @@
+package kg.freelance.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kg.freelance.entity.Category;
+import kg.freelance.entity.Order;
+import kg.freelance.entity.User;
+import kg.freelance.repository.ExecutorProfileRepository;
+import kg.freelance.repository.UserRepository;
+import kg.freelance.repository.projection.ExecutorCategoryView;
+import kg.freelance.service.PushNotificationService;
+import kg.freelance.websocket.dto.OrderFeedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderFeedNotifier Tests")
+class OrderFeedNotifierImplTest {
+
+    @Mock
+    private ExecutorProfileRepository executorProfileRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private PushNotificationService pushNotificationService;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderFeedNotifierImpl notifier;
+    private Category design;
+    private User client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        notifier = new OrderFeedNotifierImpl(executorProfileRepository, userRepository, messagingTemplate,
+                pushNotificationService, meterRegistry, clock, 2, 1);
+        design = Category.builder().id(10L).name("Design").slug("design").build();
+        client = User.builder().id(1L).email("client@example.com").build();
+    }
+
+    private Order order(Long id) {
+        return Order.builder()
+                .id(id)
+                .title("Order " + id)
+                .client(client)
+                .category(design)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private ExecutorCategoryView subscriber(Long userId, Long categoryId) {
+        return new ExecutorCategoryView() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getCategoryId() {
+                return categoryId;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should push one batch to online executors of the category")
+    void shouldPushBatchToOnlineExecutors() {
+        // Given
+        when(executorProfileRepository.findCategoryIds(2L)).thenReturn(List.of(10L));
+        when(executorProfileRepository.findNewOrderPushSubscribers(Set.of(10L))).thenReturn(List.of());
+        notifier.userConnected(2L, "executor@example.com", "session-1");
+        notifier.orderPublished(order(100L));
+        notifier.orderPublished(order(101L));
+
+        // When
+        int notified = notifier.flush();
+
+        // Then
+        ArgumentCaptor<OrderFeedEvent> event = ArgumentCaptor.forClass(OrderFeedEvent.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("executor@example.com"), eq("/queue/order-feed"), event.capture());
+        assertThat(notified).isEqualTo(1);
+        assertThat(event.getValue().getOrders()).extracting(OrderFeedEvent.Item::getId).containsExactly(100L, 101L);
+        assertThat(event.getValue().isMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should truncate the batch and flag that more orders exist")
+    void shouldTruncateLargeBatch() {
+        // Given
+        when(executorProfileRepository.findCategoryIds(2L)).thenReturn(List.of(10L));
+        when(executorProfileRepository.findNewOrderPushSubscribers(Set.of(10L))).thenReturn(List.of());
+        notifier.userConnected(2L, "executor@example.com", "session-1");
+        notifier.orderPublished(order(100L));
+        notifier.orderPublished(order(101L));
+        notifier.orderPublished(order(102L));
+
+        // When
+        notifier.flush();
+
+        // Then
+        ArgumentCaptor<OrderFeedEvent> event = ArgumentCaptor.forClass(OrderFeedEvent.class);
+        verify(messagingTemplate).convertAndSendToUser(anyString(), anyString(), event.capture());
+        assertThat(event.getValue().getOrders()).hasSize(2);
+        assertThat(event.getValue().isMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not notify the client about their own order")
+    void shouldSkipOrderAuthor() {
+        // Given
+        when(executorProfileRepository.findCategoryIds(1L)).thenReturn(List.of(10L));
+        when(executorProfileRepository.findNewOrderPushSubscribers(Set.of(10L))).thenReturn(List.of());
+        notifier.userConnected(1L, "client@example.com", "session-1");
+        notifier.orderPublished(order(100L));
+
+        // When
+        int notified = notifier.flush();
+
+        // Then
+        assertThat(notified).isZero();
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("Should send FCM push only to offline subscribers")
+    void shouldPushToOfflineSubscribers() {
+        // Given
+        User offline = User.builder().id(3L).fcmToken("token").build();
+        when(executorProfileRepository.findCategoryIds(2L)).thenReturn(List.of(10L));
+        when(executorProfileRepository.findNewOrderPushSubscribers(Set.of(10L)))
+                .thenReturn(List.of(subscriber(2L, 10L), subscriber(3L, 10L)));
+        when(userRepository.findAllById(Set.of(3L))).thenReturn(List.of(offline));
+        notifier.userConnected(2L, "executor@example.com", "session-1");
+        notifier.orderPublished(order(100L));
+
+        // When
+        int notified = notifier.flush();
+
+        // Then
+        assertThat(notified).isEqualTo(2);
+        verify(pushNotificationService).sendPush(eq(offline), anyString(), eq("Order 100"),
+                eq(Map.of("type", "NEW_ORDERS", "orderId", "100")));
+        assertThat(meterRegistry.get("orders.feed.push").tag("channel", "fcm").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should cap pushes per executor and minute")
+    void shouldThrottleExecutor() {
+        // Given
+        when(executorProfileRepository.findCategoryIds(2L)).thenReturn(List.of(10L));
+        when(executorProfileRepository.findNewOrderPushSubscribers(Set.of(10L))).thenReturn(List.of());
+        when(clock.millis()).thenReturn(0L, 30_000L, 60_000L);
+        notifier.userConnected(2L, "executor@example.com", "session-1");
+
+        // When
+        notifier.orderPublished(order(100L));
+        notifier.flush();
+        notifier.orderPublished(order(101L));
+        notifier.flush();
+        notifier.orderPublished(order(102L));
+        notifier.flush();
+
+        // Then
+        verify(messagingTemplate, times(2)).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+        assertThat(meterRegistry.get("orders.feed.push.throttled").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should drop executors from the index on disconnect")
+    void shouldForgetDisconnectedExecutor() {
+        // Given
+        when(executorProfileRepository.findCategoryIds(2L)).thenReturn(List.of(10L));
+        when(executorProfileRepository.findNewOrderPushSubscribers(Set.of(10L))).thenReturn(List.of());
+        notifier.userConnected(2L, "executor@example.com", "session-1");
+        notifier.userDisconnected(2L, "session-1");
+        notifier.orderPublished(order(100L));
+
+        // When
+        int notified = notifier.flush();
+
+        // Then
+        assertThat(notified).isZero();
+        verifyNoInteractions(messagingTemplate);
+        assertThat(meterRegistry.get("orders.feed.push.online").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep executors indexed until their last session closes")
+    void shouldKeepExecutorIndexedWhileAnotherSessionIsOpen() {
+        // Given
+        when(executorProfileRepository.findCategoryIds(2L)).thenReturn(List.of(10L));
+        when(executorProfileRepository.findNewOrderPushSubscribers(Set.of(10L))).thenReturn(List.of());
+        notifier.userConnected(2L, "executor@example.com", "session-1");
+        notifier.userConnected(2L, "executor@example.com", "session-2");
+        notifier.userDisconnected(2L, "session-1");
+        notifier.orderPublished(order(100L));
+
+        // When
+        int notified = notifier.flush();
+
+        // Then
+        assertThat(notified).isEqualTo(1);
+        verify(executorProfileRepository, times(1)).findCategoryIds(2L);
+        verify(messagingTemplate).convertAndSendToUser(eq("executor@example.com"), eq("/queue/order-feed"), any(Object.class));
+
+        // When - the last session closes
+        notifier.userDisconnected(2L, "session-2");
+
+        // Then
+        assertThat(meterRegistry.get("orders.feed.push.online").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should ignore a repeated disconnect of the same session")
+    void shouldIgnoreDuplicateDisconnect() {
+        // Given
+        when(executorProfileRepository.findCategoryIds(2L)).thenReturn(List.of(10L));
+        when(executorProfileRepository.findNewOrderPushSubscribers(Set.of(10L))).thenReturn(List.of());
+        notifier.userConnected(2L, "executor@example.com", "session-1");
+        notifier.userConnected(2L, "executor@example.com", "session-2");
+
+        // When - the broker reports the close of session-1 twice
+        notifier.userDisconnected(2L, "session-1");
+        notifier.userDisconnected(2L, "session-1");
+        notifier.orderPublished(order(100L));
+        int notified = notifier.flush();
+
+        // Then - session-2 is still open
+        assertThat(notified).isEqualTo(1);
+        assertThat(meterRegistry.get("orders.feed.push.online").gauge().value()).isEqualTo(1.0);
+        verify(messagingTemplate).convertAndSendToUser(eq("executor@example.com"), eq("/queue/order-feed"), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should index an executor whose connect races the disconnect of their last session")
+    void shouldIndexExecutorWhenConnectRacesDisconnect() throws Exception {
+        // Given
+        when(executorProfileRepository.findCategoryIds(2L)).thenReturn(List.of(10L));
+
+        for (int round = 0; round < 200; round++) {
+            String closing = "closing-" + round;
+            String opening = "opening-" + round;
+            notifier.userConnected(2L, "executor@example.com", closing);
+
+            // When - a new session opens while the only open one closes
+            CountDownLatch start = new CountDownLatch(1);
+            Thread disconnect = new Thread(() -> {
+                awaitQuietly(start);
+                notifier.userDisconnected(2L, closing);
+            });
+            Thread connect = new Thread(() -> {
+                awaitQuietly(start);
+                notifier.userConnected(2L, "executor@example.com", opening);
+            });
+            disconnect.start();
+            connect.start();
+            start.countDown();
+            disconnect.join();
+            connect.join();
+
+            // Then - the new session keeps the executor online and indexed
+            assertThat(meterRegistry.get("orders.feed.push.online").gauge().value()).isEqualTo(1.0);
+
+            notifier.userDisconnected(2L, opening);
+            assertThat(meterRegistry.get("orders.feed.push.online").gauge().value()).isZero();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
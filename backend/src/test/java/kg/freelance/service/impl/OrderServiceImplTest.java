@@ -3,11 +3,14 @@ package kg.freelance.service.impl;
 import kg.freelance.dto.request.OrderCreateRequest;
 import kg.freelance.dto.request.OrderResponseRequest;
 import kg.freelance.dto.request.SelectExecutorRequest;
+import kg.freelance.dto.request.SliceRequest;
+import kg.freelance.dto.response.CursorPageResponse;
 import kg.freelance.dto.response.OrderDetailResponse;
 import kg.freelance.dto.response.OrderListResponse;
 import kg.freelance.dto.response.OrderResponseDto;
 import kg.freelance.dto.response.PageResponse;
 import kg.freelance.entity.*;
+import kg.freelance.entity.enums.NotificationType;
 import kg.freelance.entity.enums.OrderStatus;
 import kg.freelance.entity.enums.ProfileVisibility;
 import kg.freelance.entity.enums.UserRole;
@@ -16,12 +19,16 @@ import kg.freelance.exception.ForbiddenException;
 import kg.freelance.exception.ResourceNotFoundException;
 import kg.freelance.repository.MessageRepository;
 import kg.freelance.repository.*;
+import kg.freelance.repository.projection.ExecutorOrderListView;
+import kg.freelance.repository.projection.OrderListView;
+import kg.freelance.service.ChatMembershipCache;
 import kg.freelance.service.ChatService;
-import kg.freelance.service.EmailService;
-import kg.freelance.service.ExecutorVerificationService;
-import kg.freelance.service.InAppNotificationService;
-import kg.freelance.service.SubscriptionService;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import kg.freelance.service.OrderFeedCache;
+import kg.freelance.service.OrderFeedNotifier;
+import kg.freelance.service.OrderService;
+import kg.freelance.service.OrderViewCounter;
+import kg.freelance.service.OutboxService;
+import kg.freelance.service.ViewerContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,12 +41,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -58,6 +72,15 @@ class OrderServiceImplTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private OrderViewCounter orderViewCounter;
+
+    @Mock
+    private OrderFeedCache orderFeedCache;
+
     @Mock
     private OrderResponseRepository orderResponseRepository;
 
@@ -68,25 +91,22 @@ class OrderServiceImplTest {
     private ChatRoomRepository chatRoomRepository;
 
     @Mock
-    private SubscriptionService subscriptionService;
+    private ViewerContext viewerContext;
 
     @Mock
     private MessageRepository messageRepository;
 
     @Mock
-    private ExecutorVerificationService executorVerificationService;
-
-    @Mock
-    private EmailService emailService;
+    private ChatService chatService;
 
     @Mock
-    private ChatService chatService;
+    private OutboxService outboxService;
 
     @Mock
-    private InAppNotificationService inAppNotificationService;
+    private OrderFeedNotifier orderFeedNotifier;
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private ChatMembershipCache chatMembershipCache;
 
     @InjectMocks
     private OrderServiceImpl orderService;
@@ -96,6 +116,7 @@ class OrderServiceImplTest {
     private Category testCategory;
     private Order testOrder;
     private ExecutorProfile executorProfile;
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
 
     @BeforeEach
     void setUp() {
@@ -153,6 +174,21 @@ class OrderServiceImplTest {
                 .build();
     }
 
+    private OrderListView listView(Order order) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", order.getId());
+        row.put("title", order.getTitle());
+        row.put("description", order.getDescription());
+        row.put("categoryId", order.getCategory().getId());
+        row.put("categoryName", order.getCategory().getName());
+        row.put("clientId", order.getClient().getId());
+        row.put("clientName", order.getClient().getFullName());
+        row.put("status", order.getStatus().name());
+        row.put("responseCount", order.getResponseCount());
+        row.put("createdAt", order.getCreatedAt());
+        return projectionFactory.createProjection(OrderListView.class, row);
+    }
+
     @Nested
     @DisplayName("Create Order Tests")
     class CreateOrderTests {
@@ -188,6 +224,56 @@ class OrderServiceImplTest {
             assertThat(response.getTitle()).isEqualTo("New Order");
             assertThat(response.getStatus()).isEqualTo(OrderStatus.NEW);
             verify(orderRepository).save(any(Order.class));
+            verify(orderFeedNotifier).orderPublished(any(Order.class));
+        }
+
+        @Test
+        @DisplayName("Should link free-text location to the dictionary entry")
+        void shouldResolveLocationFromDictionary() {
+            // Given
+            OrderCreateRequest request = new OrderCreateRequest();
+            request.setTitle("New Order");
+            request.setDescription("Order description");
+            request.setCategoryId(1L);
+            request.setLocation("бишкек");
+
+            Location bishkek = Location.builder().id(1L).name("Бишкек").slug("bishkek").build();
+
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testClient));
+            when(categoryRepository.findById(1L)).thenReturn(Optional.of(testCategory));
+            when(locationRepository.findByNameIgnoreCaseAndActiveTrue("бишкек")).thenReturn(Optional.of(bishkek));
+            when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+                Order order = invocation.getArgument(0);
+                order.setId(1L);
+                order.setCreatedAt(LocalDateTime.now());
+                return order;
+            });
+
+            // When
+            OrderDetailResponse response = orderService.createOrder(1L, request);
+
+            // Then
+            assertThat(response.getLocationId()).isEqualTo(1L);
+            assertThat(response.getLocation()).isEqualTo("Бишкек");
+        }
+
+        @Test
+        @DisplayName("Should evict cached feed pages of the category")
+        void shouldEvictFeedCacheOnCreate() {
+            // Given
+            OrderCreateRequest request = new OrderCreateRequest();
+            request.setTitle("New Order");
+            request.setCategoryId(1L);
+
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testClient));
+            when(categoryRepository.findById(1L)).thenReturn(Optional.of(testCategory));
+            when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            orderService.createOrder(1L, request);
+
+            // Then
+            verify(orderFeedCache).evictCategory(1L);
         }
 
         @Test
@@ -216,21 +302,21 @@ class OrderServiceImplTest {
         void shouldReturnPaginatedOrders() {
             // Given
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Order> orderPage = new PageImpl<>(List.of(testOrder), pageable, 1);
+            Page<OrderListView> orderPage = new PageImpl<>(List.of(listView(testOrder)), pageable, 1);
 
             when(orderRepository.findPublicOrders(
-                    isNull(), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)
+                    isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)
             )).thenReturn(orderPage);
 
             // When
             PageResponse<OrderListResponse> response = orderService.getPublicOrders(
-                    null, null, null, null, null, null, pageable
+                    null, null, null, null, null, null, null, pageable
             );
 
             // Then
             assertThat(response).isNotNull();
             assertThat(response.getContent()).hasSize(1);
-            assertThat(response.getTotalElements()).isEqualTo(1);
+            assertThat(response.getTotalElements()).isEqualTo(1L);
         }
 
         @Test
@@ -238,21 +324,256 @@ class OrderServiceImplTest {
         void shouldFilterOrdersByCategory() {
             // Given
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Order> orderPage = new PageImpl<>(List.of(testOrder), pageable, 1);
+            Page<OrderListView> orderPage = new PageImpl<>(List.of(listView(testOrder)), pageable, 1);
 
             when(orderRepository.findPublicOrders(
-                    eq(1L), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)
+                    eq(1L), isNull(), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)
             )).thenReturn(orderPage);
 
             // When
             PageResponse<OrderListResponse> response = orderService.getPublicOrders(
-                    1L, null, null, null, null, null, pageable
+                    1L, null, null, null, null, null, null, pageable
             );
 
             // Then
             assertThat(response).isNotNull();
             assertThat(response.getContent()).hasSize(1);
-            verify(orderRepository).findPublicOrders(eq(1L), isNull(), isNull(), isNull(), isNull(), any(Pageable.class));
+            verify(orderRepository).findPublicOrders(eq(1L), isNull(), isNull(), isNull(), isNull(), isNull(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should rank by relevance when searching with relevance sort")
+        void shouldRankByRelevanceWhenSearching() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, OrderService.SORT_RELEVANCE));
+            Page<OrderListView> orderPage = new PageImpl<>(List.of(listView(testOrder)), PageRequest.of(0, 10), 1);
+
+            when(orderRepository.findPublicOrdersByRelevance(
+                    isNull(), isNull(), isNull(), eq("ремонт"), isNull(), isNull(), eq(PageRequest.of(0, 10))
+            )).thenReturn(orderPage);
+
+            // When
+            PageResponse<OrderListResponse> response = orderService.getPublicOrders(
+                    null, null, null, "ремонт", null, null, null, pageable
+            );
+
+            // Then
+            assertThat(response.getContent()).hasSize(1);
+            verify(orderRepository, never()).findPublicOrders(any(), any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should serve the landing page from the feed cache")
+        void shouldServeLandingPageFromCache() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<OrderListView> cached = new PageImpl<>(List.of(listView(testOrder)), pageable, 1);
+
+            when(orderFeedCache.isCacheable(1L, null, null, null, null, null, pageable)).thenReturn(true);
+            when(orderFeedCache.get(eq(1L), eq(pageable), any())).thenReturn(cached);
+
+            // When
+            PageResponse<OrderListResponse> response = orderService.getPublicOrders(
+                    1L, null, null, null, null, null, null, pageable
+            );
+
+            // Then
+            assertThat(response.getContent()).extracting(OrderListResponse::getId).containsExactly(1L);
+            assertThat(response.getTotalElements()).isEqualTo(1L);
+            verifyNoInteractions(orderRepository);
+        }
+
+        @Test
+        @DisplayName("Should resolve hasResponded for the whole page in one query")
+        void shouldResolveHasRespondedForWholePage() {
+            // Given
+            Order otherOrder = Order.builder()
+                    .id(2L)
+                    .title("Other Order")
+                    .description("Other description")
+                    .client(testClient)
+                    .category(testCategory)
+                    .status(OrderStatus.NEW)
+                    .responseCount(0)
+                    .build();
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<OrderListView> orderPage = new PageImpl<>(List.of(listView(testOrder), listView(otherOrder)), pageable, 2);
+
+            when(orderRepository.findPublicOrders(
+                    isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)
+            )).thenReturn(orderPage);
+            when(orderResponseRepository.findRespondedOrderIds(2L, List.of(1L, 2L))).thenReturn(Set.of(2L));
+
+            // When
+            PageResponse<OrderListResponse> response = orderService.getPublicOrders(
+                    null, null, null, null, null, null, 2L, pageable
+            );
+
+            // Then
+            assertThat(response.getContent()).extracting(OrderListResponse::getHasResponded)
+                    .containsExactly(false, true);
+            verify(orderResponseRepository, never()).existsByOrderIdAndExecutorId(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Public Feed Tests")
+    class PublicFeedTests {
+
+        @Test
+        @DisplayName("Should return next cursor when more rows exist")
+        void shouldReturnNextCursorWhenMoreRowsExist() {
+            // Given
+            Order olderOrder = Order.builder()
+                    .id(2L)
+                    .title("Older Order")
+                    .description("Older description")
+                    .client(testClient)
+                    .category(testCategory)
+                    .status(OrderStatus.NEW)
+                    .responseCount(0)
+                    .createdAt(testOrder.getCreatedAt().minusHours(1))
+                    .build();
+
+            when(orderRepository.findPublicOrdersAfter(
+                    isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(2)
+            )).thenReturn(List.of(listView(testOrder), listView(olderOrder)));
+
+            // When
+            CursorPageResponse<OrderListResponse> first = orderService.getPublicOrdersFeed(
+                    null, null, null, null, null, null, null, null, 1
+            );
+
+            // Then
+            assertThat(first.getContent()).extracting(OrderListResponse::getId).containsExactly(1L);
+            assertThat(first.isHasNext()).isTrue();
+            assertThat(first.getNextCursor()).isNotBlank();
+
+            // When - following the cursor seeks past the last returned row
+            when(orderRepository.findPublicOrdersAfter(
+                    isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(testOrder.getCreatedAt()), eq(1L), eq(2)
+            )).thenReturn(List.of(listView(olderOrder)));
+
+            CursorPageResponse<OrderListResponse> second = orderService.getPublicOrdersFeed(
+                    null, null, null, null, null, null, null, first.getNextCursor(), 1
+            );
+
+            // Then
+            assertThat(second.getContent()).extracting(OrderListResponse::getId).containsExactly(2L);
+            assertThat(second.isHasNext()).isFalse();
+            assertThat(second.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should clamp feed size into allowed range")
+        void shouldClampFeedSize() {
+            // Given
+            when(orderRepository.findPublicOrdersAfter(
+                    isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), anyInt()
+            )).thenReturn(List.of());
+
+            // When
+            CursorPageResponse<OrderListResponse> empty = orderService.getPublicOrdersFeed(
+                    null, null, null, null, null, null, null, null, 0);
+            CursorPageResponse<OrderListResponse> huge = orderService.getPublicOrdersFeed(
+                    null, null, null, null, null, null, null, null, 10_000);
+
+            // Then
+            assertThat(empty.getSize()).isEqualTo(1);
+            assertThat(huge.getSize()).isEqualTo(100);
+            verify(orderRepository).findPublicOrdersAfter(
+                    isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(2));
+            verify(orderRepository).findPublicOrdersAfter(
+                    isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(101));
+        }
+
+        @Test
+        @DisplayName("Should reject malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThatThrownBy(() -> orderService.getPublicOrdersFeed(
+                    null, null, null, null, null, null, null, "not-a-cursor", 20))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("My Orders Tests")
+    class MyOrdersTests {
+
+        @Test
+        @DisplayName("Should list client orders from the list projection")
+        void shouldListClientOrdersFromProjection() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10);
+            when(orderRepository.findClientOrderViews(1L, pageable))
+                    .thenReturn(new PageImpl<>(List.of(listView(testOrder)), pageable, 1));
+
+            // When
+            PageResponse<OrderListResponse> response = orderService.getMyOrdersAsClient(1L, pageable);
+
+            // Then
+            assertThat(response.getContent()).hasSize(1);
+            assertThat(response.getContent().get(0).getCategoryName()).isEqualTo("Web Development");
+            assertThat(response.getContent().get(0).getClientName()).isEqualTo("Test Client");
+            assertThat(response.getContent().get(0).getStatus()).isEqualTo(OrderStatus.NEW);
+        }
+
+        @Test
+        @DisplayName("Should skip the count query when totals are not requested")
+        void shouldSkipCountWhenTotalNotRequested() {
+            // Given
+            Pageable pageable = SliceRequest.of(0, 1, false);
+            when(orderRepository.findClientOrderViews(1L, pageable))
+                    .thenReturn(new SliceImpl<>(List.of(listView(testOrder)), pageable, true));
+
+            // When
+            PageResponse<OrderListResponse> response = orderService.getMyOrdersAsClient(1L, pageable);
+
+            // Then
+            assertThat(response.isHasNext()).isTrue();
+            assertThat(response.getTotalElements()).isNull();
+            assertThat(response.getTotalPages()).isNull();
+            verify(orderRepository, never()).countByClientId(any());
+        }
+
+        @Test
+        @DisplayName("Should count only when the slice cannot determine the total")
+        void shouldCountWhenSliceIsFull() {
+            // Given
+            Pageable pageable = SliceRequest.of(0, 1, true);
+            when(orderRepository.findClientOrderViews(1L, pageable))
+                    .thenReturn(new SliceImpl<>(List.of(listView(testOrder)), pageable, true));
+            when(orderRepository.countByClientId(1L)).thenReturn(3L);
+
+            // When
+            PageResponse<OrderListResponse> response = orderService.getMyOrdersAsClient(1L, pageable);
+
+            // Then
+            assertThat(response.getTotalElements()).isEqualTo(3L);
+            assertThat(response.getTotalPages()).isEqualTo(3);
+            assertThat(response.isHasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should carry selection flag in executor order history")
+        void shouldCarrySelectionFlagForExecutor() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10);
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", 1L);
+            row.put("title", "Test Order");
+            row.put("status", "IN_PROGRESS");
+            row.put("isExecutorSelected", true);
+            ExecutorOrderListView view = projectionFactory.createProjection(ExecutorOrderListView.class, row);
+            when(orderRepository.findExecutorOrderViews(2L, pageable))
+                    .thenReturn(new PageImpl<>(List.of(view), pageable, 1));
+
+            // When
+            PageResponse<OrderListResponse> response = orderService.getMyOrdersAsExecutor(2L, pageable);
+
+            // Then
+            assertThat(response.getContent().get(0).getIsExecutorSelected()).isTrue();
+            assertThat(response.getContent().get(0).getStatus()).isEqualTo(OrderStatus.IN_PROGRESS);
         }
     }
 
@@ -275,6 +596,35 @@ class OrderServiceImplTest {
             assertThat(response.getTitle()).isEqualTo("Test Order");
         }
 
+        @Test
+        @DisplayName("Should buffer view for non-owner instead of updating the row")
+        void shouldBufferViewForNonOwner() {
+            // Given
+            testOrder.setViewCount(10);
+            when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+            when(orderViewCounter.getPendingViews(1L)).thenReturn(3L);
+
+            // When
+            OrderDetailResponse response = orderService.getOrderById(1L, 2L);
+
+            // Then
+            verify(orderViewCounter).recordView(1L);
+            assertThat(response.getViewCount()).isEqualTo(13);
+        }
+
+        @Test
+        @DisplayName("Should not count owner views")
+        void shouldNotCountOwnerViews() {
+            // Given
+            when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+
+            // When
+            orderService.getOrderById(1L, 1L);
+
+            // Then
+            verify(orderViewCounter, never()).recordView(any());
+        }
+
         @Test
         @DisplayName("Should throw exception when order not found")
         void shouldThrowExceptionWhenOrderNotFound() {
@@ -303,8 +653,8 @@ class OrderServiceImplTest {
             when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
             when(orderResponseRepository.existsByOrderIdAndExecutorId(1L, 2L)).thenReturn(false);
             when(executorProfileRepository.existsById(2L)).thenReturn(true);
-            when(userRepository.findById(2L)).thenReturn(Optional.of(testExecutor));
-            when(subscriptionService.canAccessOrders(testExecutor)).thenReturn(true);
+            when(viewerContext.getUser(2L)).thenReturn(Optional.of(testExecutor));
+            when(viewerContext.canAccessOrders(2L)).thenReturn(true);
             when(orderResponseRepository.save(any(OrderResponse.class))).thenAnswer(invocation -> {
                 OrderResponse resp = invocation.getArgument(0);
                 resp.setId(1L);
@@ -319,6 +669,8 @@ class OrderServiceImplTest {
             // Then
             assertThat(response).isNotNull();
             verify(orderResponseRepository).save(any(OrderResponse.class));
+            verify(outboxService).enqueueEmail(OutboxService.EmailTemplate.NEW_ORDER_RESPONSE,
+                    testClient, testOrder, testExecutor, null);
         }
 
         @Test
@@ -332,8 +684,8 @@ class OrderServiceImplTest {
             when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
             when(orderResponseRepository.existsByOrderIdAndExecutorId(1L, 2L)).thenReturn(false);
             when(executorProfileRepository.existsById(2L)).thenReturn(true);
-            when(userRepository.findById(2L)).thenReturn(Optional.of(testExecutor));
-            when(subscriptionService.canAccessOrders(testExecutor)).thenReturn(false);
+            when(viewerContext.getUser(2L)).thenReturn(Optional.of(testExecutor));
+            when(viewerContext.canAccessOrders(2L)).thenReturn(false);
 
             // When/Then
             assertThatThrownBy(() -> orderService.createResponse(2L, 1L, request))
@@ -368,6 +720,33 @@ class OrderServiceImplTest {
             assertThatThrownBy(() -> orderService.createResponse(1L, 1L, request))
                     .isInstanceOf(BadRequestException.class);
         }
+
+        @Test
+        @DisplayName("Should load executor profiles of all responses in one query")
+        void shouldBatchLoadExecutorProfiles() {
+            // Given
+            User otherExecutor = User.builder()
+                    .id(3L)
+                    .fullName("Other Executor")
+                    .build();
+            OrderResponse first = OrderResponse.builder()
+                    .id(1L).order(testOrder).executor(testExecutor).coverLetter("First").isSelected(false).build();
+            OrderResponse second = OrderResponse.builder()
+                    .id(2L).order(testOrder).executor(otherExecutor).coverLetter("Second").isSelected(false).build();
+
+            when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+            when(orderResponseRepository.findByOrderIdOrderByCreatedAtDesc(1L)).thenReturn(List.of(first, second));
+            when(executorProfileRepository.findAllById(Set.of(2L, 3L))).thenReturn(List.of(executorProfile));
+
+            // When
+            List<OrderResponseDto> result = orderService.getOrderResponses(1L, 1L);
+
+            // Then
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).getExecutorRating()).isEqualByComparingTo(BigDecimal.valueOf(4.5));
+            assertThat(result.get(1).getExecutorRating()).isNull();
+            verify(executorProfileRepository, never()).findById(any());
+        }
     }
 
     @Nested
@@ -405,9 +784,8 @@ class OrderServiceImplTest {
             when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
             when(orderResponseRepository.findById(1L)).thenReturn(Optional.of(orderResponse));
             when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
-            when(chatRoomRepository.save(any(ChatRoom.class))).thenReturn(chatRoom);
+            when(chatRoomRepository.findByOrderIdAndExecutorId(1L, 2L)).thenReturn(Optional.of(chatRoom));
             when(messageRepository.save(any(Message.class))).thenReturn(systemMessage);
-            when(executorProfileRepository.findById(2L)).thenReturn(Optional.of(executorProfile));
 
             // When
             orderService.selectExecutor(1L, 1L, request);
@@ -415,7 +793,13 @@ class OrderServiceImplTest {
             // Then
             verify(orderRepository).save(any(Order.class));
             verify(orderResponseRepository).save(any(OrderResponse.class));
-            verify(executorProfileRepository).save(any(ExecutorProfile.class));
+            verify(executorProfileRepository).incrementTotalOrders(2L);
+            verify(executorProfileRepository, never()).save(any(ExecutorProfile.class));
+            verify(chatRoomRepository, never()).save(any(ChatRoom.class));
+            verify(outboxService).enqueueWebSocket(eq(testExecutor), eq("/queue/messages"), any());
+            verify(outboxService).enqueueEmail(OutboxService.EmailTemplate.EXECUTOR_SELECTED, testExecutor, testOrder);
+            verify(outboxService).enqueueNotification(eq(testExecutor), eq(NotificationType.EXECUTOR_SELECTED),
+                    anyString(), anyString(), eq(testOrder), eq("/orders/1"));
         }
 
         @Test
@@ -448,6 +832,38 @@ class OrderServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Approve Work Tests")
+    class ApproveWorkTests {
+
+        private Order orderOnReview(Long id) {
+            return Order.builder()
+                    .id(id)
+                    .title("Order " + id)
+                    .client(testClient)
+                    .executor(testExecutor)
+                    .category(testCategory)
+                    .status(OrderStatus.ON_REVIEW)
+                    .startedAt(LocalDateTime.now().minusDays(4))
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Should fold completion days into a single counter update")
+        void shouldIncrementCompletedOrdersAtomically() {
+            // Given
+            when(orderRepository.findById(1L)).thenReturn(Optional.of(orderOnReview(1L)));
+
+            // When
+            orderService.approveWork(1L, 1L);
+
+            // Then
+            verify(executorProfileRepository).incrementCompletedOrders(2L, 4);
+            verify(executorProfileRepository, never()).findById(any());
+            verify(executorProfileRepository, never()).save(any(ExecutorProfile.class));
+        }
+    }
+
     @Nested
     @DisplayName("Delete Order Tests")
     class DeleteOrderTests {
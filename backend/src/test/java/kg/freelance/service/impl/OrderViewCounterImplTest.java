@@ -0,0 +1,150 @@
+package kg.freelance.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderViewCounter Tests")
+class OrderViewCounterImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderViewCounterImpl viewCounter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        viewCounter = new OrderViewCounterImpl(jdbcTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should write accumulated deltas in one batch")
+    @SuppressWarnings("unchecked")
+    void shouldFlushDeltasInOneBatch() {
+        // Given
+        viewCounter.recordView(2L);
+        viewCounter.recordView(1L);
+        viewCounter.recordView(2L);
+        assertThat(meterRegistry.get("orders.views.buffered").gauge().value()).isEqualTo(3.0);
+
+        // When
+        int flushed = viewCounter.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertThat(flushed).isEqualTo(2);
+        assertThat(batch.getValue()).containsExactly(new Object[]{1L, 1L}, new Object[]{2L, 2L});
+        assertThat(viewCounter.getPendingViews(2L)).isZero();
+        assertThat(meterRegistry.get("orders.views.flushed").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("orders.views.flush").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should skip the database when nothing is buffered")
+    void shouldSkipEmptyFlush() {
+        assertThat(viewCounter.flush()).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should keep deltas when the flush fails")
+    void shouldRetainDeltasOnFailure() {
+        // Given
+        viewCounter.recordView(1L);
+        viewCounter.recordView(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        // When
+        int flushed = viewCounter.flush();
+
+        // Then
+        assertThat(flushed).isZero();
+        assertThat(viewCounter.getPendingViews(1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep views recorded while a flush is writing for the next flush")
+    @SuppressWarnings("unchecked")
+    void shouldKeepViewsRecordedDuringFlush() {
+        // Given - views arrive while the first batch is being written
+        viewCounter.recordView(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenAnswer(inv -> {
+                    viewCounter.recordView(1L);
+                    viewCounter.recordView(1L);
+                    return new int[0];
+                })
+                .thenReturn(new int[0]);
+
+        // When
+        viewCounter.flush();
+        viewCounter.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batch.capture());
+        assertThat(batch.getAllValues().get(0)).containsExactly(new Object[]{1L, 1L});
+        assertThat(batch.getAllValues().get(1)).containsExactly(new Object[]{2L, 1L});
+        assertThat(viewCounter.getPendingViews(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not lose views recorded concurrently with flushes")
+    void shouldNotLoseViewsUnderConcurrentFlushes() throws Exception {
+        // Given
+        int threads = 8;
+        int viewsPerThread = 10_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int v = 0; v < viewsPerThread; v++) {
+                    viewCounter.recordView(1L);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        while (futures.stream().anyMatch(future -> !future.isDone())) {
+            viewCounter.flush();
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        viewCounter.flush();
+
+        // Then - every view was written exactly once
+        assertThat(meterRegistry.get("orders.views.flushed").counter().count())
+                .isEqualTo((double) threads * viewsPerThread);
+        assertThat(viewCounter.getPendingViews(1L)).isZero();
+    }
+}
@@ -0,0 +1,301 @@
+package kg.freelance.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kg.freelance.entity.Order;
+import kg.freelance.entity.OutboxEvent;
+import kg.freelance.entity.User;
+import kg.freelance.entity.enums.NotificationType;
+import kg.freelance.entity.enums.OutboxChannel;
+import kg.freelance.entity.enums.OutboxStatus;
+import kg.freelance.repository.OrderRepository;
+import kg.freelance.repository.OutboxEventRepository;
+import kg.freelance.repository.UserRepository;
+import kg.freelance.service.EmailService;
+import kg.freelance.service.InAppNotificationService;
+import kg.freelance.service.OutboxService;
+import kg.freelance.service.PushNotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxService Tests")
+class OutboxServiceImplTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private InAppNotificationService inAppNotificationService;
+
+    @Mock
+    private PushNotificationService pushNotificationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxServiceImpl outboxService;
+
+    private User executor;
+    private User client;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxService = new OutboxServiceImpl(outboxEventRepository, userRepository, orderRepository,
+                messagingTemplate, emailService, inAppNotificationService, pushNotificationService, new ObjectMapper(),
+                new TransactionTemplate(transactionManager), meterRegistry);
+
+        executor = User.builder().id(2L).email("executor@example.com").fullName("Test Executor").build();
+        client = User.builder().id(1L).email("client@example.com").fullName("Test Client").build();
+        order = new Order();
+        order.setId(10L);
+        order.setTitle("Test Order");
+    }
+
+    private OutboxEvent pendingEvent(OutboxChannel channel, Map<String, Object> payload) {
+        return OutboxEvent.builder()
+                .id(100L)
+                .channel(channel)
+                .recipientId(executor.getId())
+                .orderId(order.getId())
+                .payload(payload)
+                .availableAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void givenDueEvent(OutboxEvent event) {
+        when(outboxEventRepository.lockDueEvents(any(LocalDateTime.class), eq(100)))
+                .thenReturn(List.of(event));
+        when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+    }
+
+    @Nested
+    @DisplayName("Enqueue Tests")
+    class EnqueueTests {
+
+        @Test
+        @DisplayName("Should store notification and its push as separate events")
+        void shouldStoreNotification() {
+            // When
+            outboxService.enqueueNotification(executor, NotificationType.EXECUTOR_SELECTED,
+                    "Title", "Message", order, "/orders/10");
+
+            // Then
+            ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+            verify(outboxEventRepository, times(2)).save(captor.capture());
+            assertThat(captor.getAllValues()).extracting(OutboxEvent::getChannel)
+                    .containsExactly(OutboxChannel.NOTIFICATION, OutboxChannel.PUSH);
+            assertThat(captor.getAllValues().get(1).getPayload()).containsEntry("title", "Title");
+            OutboxEvent event = captor.getAllValues().get(0);
+            assertThat(event.getChannel()).isEqualTo(OutboxChannel.NOTIFICATION);
+            assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+            assertThat(event.getRecipientId()).isEqualTo(2L);
+            assertThat(event.getOrderId()).isEqualTo(10L);
+            assertThat(event.getPayload())
+                    .containsEntry("type", "EXECUTOR_SELECTED")
+                    .containsEntry("link", "/orders/10");
+        }
+
+        @Test
+        @DisplayName("Should store WebSocket payload as plain JSON values")
+        void shouldStoreWebSocketPayload() {
+            // When
+            outboxService.enqueueWebSocket(executor, "/queue/messages", Map.of("chatRoomId", 5));
+
+            // Then
+            ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+            verify(outboxEventRepository).save(captor.capture());
+            assertThat(captor.getValue().getPayload())
+                    .containsEntry("user", "executor@example.com")
+                    .containsEntry("destination", "/queue/messages")
+                    .containsEntry("body", Map.of("chatRoomId", 5));
+        }
+    }
+
+    @Nested
+    @DisplayName("Dispatch Tests")
+    class DispatchTests {
+
+        @Test
+        @DisplayName("Should deliver WebSocket event and mark it sent")
+        void shouldDeliverWebSocketEvent() {
+            // Given
+            OutboxEvent event = pendingEvent(OutboxChannel.WEBSOCKET, Map.of(
+                    "user", "executor@example.com",
+                    "destination", "/queue/messages",
+                    "body", Map.of("chatRoomId", 5)));
+            givenDueEvent(event);
+
+            // When
+            int delivered = outboxService.dispatchPending();
+
+            // Then
+            assertThat(delivered).isEqualTo(1);
+            verify(messagingTemplate).convertAndSendToUser("executor@example.com", "/queue/messages", Map.of("chatRoomId", 5));
+            assertThat(event.getStatus()).isEqualTo(OutboxStatus.SENT);
+            assertThat(event.getSentAt()).isNotNull();
+            assertThat(meterRegistry.get("outbox.events").tag("channel", "WEBSOCKET").tag("result", "sent")
+                    .counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should reload users and order for email events")
+        void shouldDeliverEmailEvent() {
+            // Given
+            OutboxEvent event = pendingEvent(OutboxChannel.EMAIL, Map.of(
+                    "template", OutboxService.EmailTemplate.NEW_ORDER_RESPONSE.name(),
+                    "actorId", 1));
+            givenDueEvent(event);
+            when(orderRepository.findById(10L)).thenReturn(Optional.of(order));
+            when(userRepository.findById(2L)).thenReturn(Optional.of(executor));
+            when(userRepository.findById(1L)).thenReturn(Optional.of(client));
+
+            // When
+            outboxService.dispatchPending();
+
+            // Then
+            verify(emailService).sendNewOrderResponse(executor, order, client);
+            assertThat(event.getStatus()).isEqualTo(OutboxStatus.SENT);
+        }
+
+        @Test
+        @DisplayName("Should store in-app notification without sending the push")
+        void shouldDeliverNotificationWithoutPush() {
+            // Given
+            OutboxEvent event = pendingEvent(OutboxChannel.NOTIFICATION, Map.of(
+                    "type", "WORK_APPROVED", "title", "Title", "message", "Message"));
+            givenDueEvent(event);
+            when(userRepository.findById(2L)).thenReturn(Optional.of(executor));
+            when(orderRepository.findById(10L)).thenReturn(Optional.of(order));
+
+            // When
+            outboxService.dispatchPending();
+
+            // Then
+            verify(inAppNotificationService).sendInApp(executor, NotificationType.WORK_APPROVED,
+                    "Title", "Message", order, null);
+            verify(inAppNotificationService, never()).send(any(), any(), any(), any(), any(), any());
+            verifyNoInteractions(pushNotificationService);
+            assertThat(event.getStatus()).isEqualTo(OutboxStatus.SENT);
+        }
+
+        @Test
+        @DisplayName("Should retry only the push event when FCM fails")
+        void shouldRetryFailedPushOnItsOwn() {
+            // Given
+            OutboxEvent event = pendingEvent(OutboxChannel.PUSH, Map.of(
+                    "type", "WORK_APPROVED", "title", "Title", "message", "Message", "link", "/orders/10"));
+            givenDueEvent(event);
+            when(userRepository.findById(2L)).thenReturn(Optional.of(executor));
+            doThrow(new IllegalStateException("FCM push failed: unavailable"))
+                    .when(pushNotificationService).sendPushNow(any(), anyString(), anyString(), anyMap());
+
+            // When
+            int delivered = outboxService.dispatchPending();
+
+            // Then
+            assertThat(delivered).isZero();
+            verify(pushNotificationService).sendPushNow(executor, "Title", "Message",
+                    Map.of("type", "WORK_APPROVED", "orderId", "10", "link", "/orders/10"));
+            verifyNoInteractions(inAppNotificationService);
+            assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+            assertThat(event.getAttempts()).isEqualTo(1);
+            assertThat(meterRegistry.get("outbox.events").tag("channel", "PUSH").tag("result", "retried")
+                    .counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should reschedule failed event with backoff")
+        void shouldRescheduleFailedEvent() {
+            // Given
+            OutboxEvent event = pendingEvent(OutboxChannel.WEBSOCKET, Map.of(
+                    "user", "executor@example.com",
+                    "destination", "/queue/messages",
+                    "body", Map.of()));
+            givenDueEvent(event);
+            doThrow(new MessageDeliveryException("broker down"))
+                    .when(messagingTemplate).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+
+            // When
+            int delivered = outboxService.dispatchPending();
+
+            // Then
+            assertThat(delivered).isZero();
+            assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+            assertThat(event.getAttempts()).isEqualTo(1);
+            assertThat(event.getLastError()).contains("broker down");
+            assertThat(event.getAvailableAt()).isAfter(LocalDateTime.now());
+            assertThat(meterRegistry.get("outbox.events").tag("result", "retried").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should give up after the last attempt")
+        void shouldMarkEventFailedAfterMaxAttempts() {
+            // Given
+            OutboxEvent event = pendingEvent(OutboxChannel.NOTIFICATION, Map.of(
+                    "type", "WORK_APPROVED", "title", "Title", "message", "Message"));
+            event.setAttempts(7);
+            givenDueEvent(event);
+            when(userRepository.findById(2L)).thenReturn(Optional.empty());
+
+            // When
+            outboxService.dispatchPending();
+
+            // Then
+            assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+            assertThat(event.getAttempts()).isEqualTo(8);
+            verifyNoInteractions(inAppNotificationService);
+            assertThat(meterRegistry.get("outbox.events").tag("result", "failed").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should skip events already handled elsewhere")
+        void shouldSkipEventNoLongerPending() {
+            // Given
+            OutboxEvent event = pendingEvent(OutboxChannel.WEBSOCKET, Map.of());
+            event.setStatus(OutboxStatus.SENT);
+            givenDueEvent(event);
+
+            // When
+            int delivered = outboxService.dispatchPending();
+
+            // Then
+            assertThat(delivered).isZero();
+            verifyNoInteractions(messagingTemplate);
+        }
+    }
+}
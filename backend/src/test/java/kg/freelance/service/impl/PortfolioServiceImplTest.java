@@ -11,6 +11,7 @@ import kg.freelance.exception.ResourceNotFoundException;
 import kg.freelance.repository.CategoryRepository;
 import kg.freelance.repository.ExecutorProfileRepository;
 import kg.freelance.repository.PortfolioRepository;
+import kg.freelance.service.ExecutorPageCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -42,6 +43,9 @@ class PortfolioServiceImplTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private ExecutorPageCache executorPageCache;
+
     @InjectMocks
     private PortfolioServiceImpl portfolioService;
 
@@ -344,6 +348,7 @@ class PortfolioServiceImplTest {
 
             // Then
             verify(portfolioRepository).delete(portfolio);
+            verify(executorPageCache).evict(1L);
         }
 
         @Test
@@ -0,0 +1,107 @@
+package kg.freelance.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PresenceTracker Tests")
+class PresenceTrackerImplTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PresenceTrackerImpl tracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new PresenceTrackerImpl(jdbcTemplate, meterRegistry, clock);
+    }
+
+    private void givenTime(Instant... instants) {
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(instants[0], Arrays.copyOfRange(instants, 1, instants.length));
+    }
+
+    @Test
+    @DisplayName("Should coalesce touches into one timestamp per user and flush them in one batch")
+    @SuppressWarnings("unchecked")
+    void shouldFlushLatestTimestampPerUser() {
+        // Given
+        givenTime(NOW, NOW.plusSeconds(5), NOW.plusSeconds(10));
+        tracker.touch(2L);
+        tracker.touch(1L);
+        tracker.touch(2L);
+        assertThat(meterRegistry.get("presence.buffered").gauge().value()).isEqualTo(2.0);
+
+        // When
+        int flushed = tracker.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertThat(flushed).isEqualTo(2);
+        Timestamp first = Timestamp.valueOf(LocalDateTime.ofInstant(NOW.plusSeconds(5), ZoneOffset.UTC));
+        Timestamp latest = Timestamp.valueOf(LocalDateTime.ofInstant(NOW.plusSeconds(10), ZoneOffset.UTC));
+        assertThat(batch.getValue()).containsExactly(new Object[]{first, 1L, first}, new Object[]{latest, 2L, latest});
+        assertThat(meterRegistry.get("presence.buffered").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip the database when nobody was seen")
+    void shouldSkipEmptyFlush() {
+        // When
+        int flushed = tracker.flush();
+
+        // Then
+        assertThat(flushed).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should keep timestamps for the next flush when the write fails")
+    @SuppressWarnings("unchecked")
+    void shouldRetainTimestampsOnFailure() {
+        // Given
+        givenTime(NOW);
+        tracker.touch(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[]{1});
+
+        // When
+        int failed = tracker.flush();
+        int retried = tracker.flush();
+
+        // Then
+        assertThat(failed).isZero();
+        assertThat(retried).isEqualTo(1);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+}
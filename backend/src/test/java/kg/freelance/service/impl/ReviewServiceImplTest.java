@@ -13,6 +13,7 @@ import kg.freelance.repository.ExecutorProfileRepository;
 import kg.freelance.repository.OrderRepository;
 import kg.freelance.repository.ReviewRepository;
 import kg.freelance.repository.UserRepository;
+import kg.freelance.service.ExecutorPageCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -51,6 +52,9 @@ class ReviewServiceImplTest {
     @Mock
     private ExecutorProfileRepository executorProfileRepository;
 
+    @Mock
+    private ExecutorPageCache executorPageCache;
+
     @InjectMocks
     private ReviewServiceImpl reviewService;
 
@@ -127,9 +131,6 @@ class ReviewServiceImplTest {
                 r.setCreatedAt(LocalDateTime.now());
                 return r;
             });
-            when(executorProfileRepository.findById(2L)).thenReturn(Optional.of(executorProfile));
-            when(reviewRepository.calculateAverageRating(2L)).thenReturn(5.0);
-            when(reviewRepository.countByExecutorId(2L)).thenReturn(1L);
 
             // When
             ReviewResponse result = reviewService.createReview(1L, 1L, request);
@@ -139,7 +140,9 @@ class ReviewServiceImplTest {
             assertThat(result.getRating()).isEqualTo(5);
             assertThat(result.getComment()).isEqualTo("Excellent work!");
             verify(reviewRepository).save(any(Review.class));
-            verify(executorProfileRepository).save(any(ExecutorProfile.class));
+            verify(executorProfileRepository).applyReviewDelta(2L, 5, 1);
+            verify(executorPageCache).evict(2L);
+            verify(reviewRepository, never()).countByExecutorId(anyLong());
         }
 
         @Test
@@ -221,9 +224,6 @@ class ReviewServiceImplTest {
 
             when(reviewRepository.findById(1L)).thenReturn(Optional.of(review));
             when(reviewRepository.save(any(Review.class))).thenReturn(review);
-            when(executorProfileRepository.findById(2L)).thenReturn(Optional.of(executorProfile));
-            when(reviewRepository.calculateAverageRating(2L)).thenReturn(4.0);
-            when(reviewRepository.countByExecutorId(2L)).thenReturn(1L);
 
             // When
             ReviewResponse result = reviewService.updateReview(1L, 1L, request);
@@ -231,6 +231,25 @@ class ReviewServiceImplTest {
             // Then
             assertThat(result).isNotNull();
             verify(reviewRepository).save(any(Review.class));
+            verify(executorProfileRepository).applyReviewDelta(2L, -1, 0);
+        }
+
+        @Test
+        @DisplayName("Should leave totals alone when a hidden review is re-rated")
+        void shouldNotAdjustTotalsForHiddenReview() {
+            // Given
+            review.setIsVisible(false);
+            ReviewRequest request = new ReviewRequest();
+            request.setRating(1);
+
+            when(reviewRepository.findById(1L)).thenReturn(Optional.of(review));
+            when(reviewRepository.save(any(Review.class))).thenReturn(review);
+
+            // When
+            reviewService.updateReview(1L, 1L, request);
+
+            // Then
+            verify(executorProfileRepository, never()).applyReviewDelta(anyLong(), anyInt(), anyInt());
         }
 
         @Test
@@ -258,16 +277,13 @@ class ReviewServiceImplTest {
         void shouldDeleteReviewSuccessfully() {
             // Given
             when(reviewRepository.findById(1L)).thenReturn(Optional.of(review));
-            when(executorProfileRepository.findById(2L)).thenReturn(Optional.of(executorProfile));
-            when(reviewRepository.calculateAverageRating(2L)).thenReturn(null);
-            when(reviewRepository.countByExecutorId(2L)).thenReturn(0L);
 
             // When
             reviewService.deleteReview(1L, 1L);
 
             // Then
             verify(reviewRepository).delete(review);
-            verify(executorProfileRepository).save(any(ExecutorProfile.class));
+            verify(executorProfileRepository).applyReviewDelta(2L, -5, -1);
         }
 
         @Test
@@ -368,39 +384,26 @@ class ReviewServiceImplTest {
     class RecalculateRatingTests {
 
         @Test
-        @DisplayName("Should recalculate executor rating")
+        @DisplayName("Should rebuild totals of one executor from visible reviews")
         void shouldRecalculateExecutorRating() {
-            // Given
-            when(executorProfileRepository.findById(2L)).thenReturn(Optional.of(executorProfile));
-            when(reviewRepository.calculateAverageRating(2L)).thenReturn(4.5);
-            when(reviewRepository.countByExecutorId(2L)).thenReturn(10L);
-
             // When
             reviewService.recalculateExecutorRating(2L);
 
             // Then
-            verify(executorProfileRepository).save(argThat(profile ->
-                    profile.getRating().compareTo(BigDecimal.valueOf(4.50)) == 0 &&
-                    profile.getReviewCount() == 10
-            ));
+            verify(executorProfileRepository).reconcileRatings(2L);
         }
 
         @Test
-        @DisplayName("Should set zero rating when no reviews")
-        void shouldSetZeroRatingWhenNoReviews() {
+        @DisplayName("Should reconcile all executors and report repaired rows")
+        void shouldReconcileAllExecutors() {
             // Given
-            when(executorProfileRepository.findById(2L)).thenReturn(Optional.of(executorProfile));
-            when(reviewRepository.calculateAverageRating(2L)).thenReturn(null);
-            when(reviewRepository.countByExecutorId(2L)).thenReturn(0L);
+            when(executorProfileRepository.reconcileRatings(null)).thenReturn(3);
 
             // When
-            reviewService.recalculateExecutorRating(2L);
+            int repaired = reviewService.reconcileExecutorRatings();
 
             // Then
-            verify(executorProfileRepository).save(argThat(profile ->
-                    profile.getRating().compareTo(BigDecimal.ZERO) == 0 &&
-                    profile.getReviewCount() == 0
-            ));
+            assertThat(repaired).isEqualTo(3);
         }
     }
 }
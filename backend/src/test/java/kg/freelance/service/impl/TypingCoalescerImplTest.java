@@ -0,0 +1,114 @@
+package kg.freelance.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kg.freelance.websocket.dto.TypingIndicator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TypingCoalescer Tests")
+class TypingCoalescerImplTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TypingCoalescerImpl coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new TypingCoalescerImpl(messagingTemplate, meterRegistry, clock, 3000, 6000);
+    }
+
+    private void typing(boolean isTyping) {
+        coalescer.typing(1L, 2L, "Executor User", "client@example.com", isTyping);
+    }
+
+    private TypingIndicator lastForwarded(int times) {
+        ArgumentCaptor<TypingIndicator> indicator = ArgumentCaptor.forClass(TypingIndicator.class);
+        verify(messagingTemplate, times(times))
+                .convertAndSendToUser(eq("client@example.com"), eq("/queue/typing"), indicator.capture());
+        return indicator.getValue();
+    }
+
+    @Test
+    @DisplayName("Should forward a keystroke burst once per interval")
+    void shouldForwardBurstOncePerInterval() {
+        // Given
+        when(clock.millis()).thenReturn(0L, 500L, 1000L, 2999L, 3000L);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            typing(true);
+        }
+
+        // Then
+        TypingIndicator indicator = lastForwarded(2);
+        assertThat(indicator.getIsTyping()).isTrue();
+        assertThat(indicator.getChatRoomId()).isEqualTo(1L);
+        assertThat(indicator.getUserId()).isEqualTo(2L);
+        assertThat(meterRegistry.get("chat.typing.frames").tag("result", "dropped").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should forward a stop right away and drop repeated stops")
+    void shouldForwardStopOnce() {
+        // Given
+        when(clock.millis()).thenReturn(0L, 100L, 200L);
+
+        // When
+        typing(true);
+        typing(false);
+        typing(false);
+
+        // Then
+        assertThat(lastForwarded(2).getIsTyping()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should synthesize a stop after the quiet period")
+    void shouldExpireQuietUser() {
+        // Given
+        when(clock.millis()).thenReturn(0L, 2000L, 7999L, 8000L);
+        typing(true);
+        typing(true);
+
+        // When
+        int early = coalescer.expireQuiet();
+        int expired = coalescer.expireQuiet();
+
+        // Then
+        assertThat(early).isZero();
+        assertThat(expired).isEqualTo(1);
+        assertThat(lastForwarded(2).getIsTyping()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not forward anything for a stop without a start")
+    void shouldDropStopWithoutStart() {
+        // Given
+        when(clock.millis()).thenReturn(0L);
+
+        // When
+        typing(false);
+
+        // Then
+        verifyNoInteractions(messagingTemplate);
+    }
+}
@@ -0,0 +1,97 @@
+package kg.freelance.service.impl;
+
+import kg.freelance.entity.User;
+import kg.freelance.repository.UserRepository;
+import kg.freelance.service.SubscriptionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ViewerContext Tests")
+class ViewerContextImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SubscriptionService subscriptionService;
+
+    @InjectMocks
+    private ViewerContextImpl viewerContext;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(2L)
+                .email("executor@test.com")
+                .fullName("Test Executor")
+                .executorVerified(true)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should resolve viewer once per request")
+    void shouldResolveViewerOncePerRequest() {
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(subscriptionService.canAccessOrders(user)).thenReturn(true);
+
+        // When
+        boolean verified = viewerContext.isVerified(2L);
+        boolean access = viewerContext.canAccessOrders(2L);
+        boolean accessAgain = viewerContext.canAccessOrders(2L);
+        Optional<User> resolved = viewerContext.getUser(2L);
+
+        // Then
+        assertThat(verified).isTrue();
+        assertThat(access).isTrue();
+        assertThat(accessAgain).isTrue();
+        assertThat(resolved).contains(user);
+        verify(userRepository, times(1)).findById(2L);
+        verify(subscriptionService, times(1)).canAccessOrders(user);
+    }
+
+    @Test
+    @DisplayName("Should query every time outside a request")
+    void shouldQueryEveryTimeOutsideRequest() {
+        // Given
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+
+        // When
+        viewerContext.getUser(2L);
+        viewerContext.getUser(2L);
+
+        // Then
+        verify(userRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("Should deny access to anonymous viewers without queries")
+    void shouldDenyAnonymousViewer() {
+        assertThat(viewerContext.isVerified(null)).isFalse();
+        assertThat(viewerContext.canAccessOrders(null)).isFalse();
+        verifyNoInteractions(userRepository, subscriptionService);
+    }
+}